@@ -0,0 +1,43 @@
+package org.example.bench;
+
+import org.example.algo.SilhouetteCalculator;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+// Наближені режими силуету на великих n: спрощений (до центроїдів) і вибірковий (2000 точок)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "--add-modules=jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class ApproximateSilhouetteBenchmark {
+    private static final int SAMPLE_SIZE = 2000;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int n;
+
+    @Param({"2", "16", "64"})
+    public int d;
+
+    @Param({"2", "7", "50"})
+    public int k;
+
+    @Param({"SIMPLIFIED", "SAMPLED"})
+    public String method;
+
+    private BenchmarkData data;
+    private final SilhouetteCalculator calculator = new SilhouetteCalculator();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = BenchmarkData.blobs(n, d, k);
+    }
+
+    @Benchmark
+    public double silhouette() {
+        return method.equals("SAMPLED")
+                ? calculator.estimateSilhouette(data.dataset, SAMPLE_SIZE, BenchmarkData.SEED).getMean()
+                : calculator.calculateSimplifiedSilhouette(data.dataset, data.centers, k);
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.bench;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Порівнює два JSON-звіти JMH (-rf json): час (основна метрика) і gc.alloc.rate.norm для кожної
+// пари бенчмарк + параметри. Аргументи: baseline.json current.json [поріг, % (типово 10)].
+// Код виходу 1, якщо хоч один бенчмарк повільніший за поріг (для CI).
+public final class BaselineComparison {
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private BaselineComparison() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BaselineComparison baseline.json current.json [threshold-percent]");
+            System.exit(2);
+        }
+        Map<String, JsonObject> baseline = load(Path.of(args[0]));
+        Map<String, JsonObject> current = load(Path.of(args[1]));
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) / 100 : 0.10;
+
+        int regressions = 0;
+        System.out.printf("%-90s %14s %14s %8s %14s %14s%n", "benchmark", "baseline", "current", "change", "alloc base", "alloc now");
+        for (Map.Entry<String, JsonObject> entry : current.entrySet()) {
+            JsonObject before = baseline.get(entry.getKey());
+            JsonObject after = entry.getValue();
+            double now = score(after.getAsJsonObject("primaryMetric"));
+            String unit = after.getAsJsonObject("primaryMetric").get("scoreUnit").getAsString();
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %8s%n", entry.getKey(), "-", now, "new");
+                continue;
+            }
+            double was = score(before.getAsJsonObject("primaryMetric"));
+            // Для метрик часу більше — гірше, для пропускної здатності (ops/…) — навпаки
+            double change = unit.startsWith("ops/") ? was / now - 1 : now / was - 1;
+            boolean regressed = change > threshold;
+            if (regressed) regressions++;
+            System.out.printf("%-90s %14.3f %14.3f %+7.1f%% %14s %14s%s%n", entry.getKey(), was, now, change * 100,
+                    allocation(before), allocation(after), regressed ? "  REGRESSION" : "");
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) System.out.printf("%-90s (not in current run)%n", key);
+        }
+        System.out.printf("%d regression(s) over %.0f%%%n", regressions, threshold * 100);
+        if (regressions > 0) System.exit(1);
+    }
+
+    private static Map<String, JsonObject> load(Path path) throws IOException {
+        Map<String, JsonObject> results = new LinkedHashMap<>();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            JsonArray array = JsonParser.parseReader(reader).getAsJsonArray();
+            for (JsonElement element : array) {
+                JsonObject result = element.getAsJsonObject();
+                results.put(key(result), result);
+            }
+        }
+        return results;
+    }
+
+    // Ім'я бенчмарку + відсортовані параметри, напр. KMeansBenchmark.cluster{algorithm=LLOYD, d=2, k=7, n=1000}
+    private static String key(JsonObject result) {
+        String name = result.get("benchmark").getAsString();
+        name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+        Map<String, String> params = new TreeMap<>();
+        if (result.has("params")) {
+            for (Map.Entry<String, JsonElement> param : result.getAsJsonObject("params").entrySet()) {
+                params.put(param.getKey(), param.getValue().getAsString());
+            }
+        }
+        return params.isEmpty() ? name : name + params;
+    }
+
+    private static double score(JsonObject metric) {
+        return metric.get("score").getAsDouble();
+    }
+
+    private static String allocation(JsonObject result) {
+        JsonObject secondary = result.getAsJsonObject("secondaryMetrics");
+        if (secondary == null || !secondary.has(ALLOCATION)) return "-";
+        return String.format("%.0f B", score(secondary.getAsJsonObject(ALLOCATION)));
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.bench;
+
+import org.example.model.DataPoint;
+import org.example.model.Dataset;
+import java.util.List;
+import java.util.Random;
+
+// Синтетичні дані з фіксованим зерном: k гаусових кластерів у d вимірах. Мітки набору — номер
+// кластера, з якого згенеровано точку, центри — справжні центри кластерів (для метрик без k-means)
+final class BenchmarkData {
+    static final long SEED = 42;
+
+    final Dataset dataset;
+    final double[] centers;
+    final int k;
+
+    private BenchmarkData(Dataset dataset, double[] centers, int k) {
+        this.dataset = dataset;
+        this.centers = centers;
+        this.k = k;
+    }
+
+    static BenchmarkData blobs(int n, int d, int k) {
+        Random random = new Random(SEED);
+        double[] centers = new double[k * d];
+        for (int i = 0; i < centers.length; i++) centers[i] = random.nextDouble() * 10;
+        Dataset dataset = new Dataset(n, d);
+        double[] values = dataset.values();
+        for (int p = 0; p < n; p++) {
+            int c = random.nextInt(k);
+            for (int j = 0; j < d; j++) values[p * d + j] = centers[c * d + j] + random.nextGaussian();
+            dataset.setLabel(p, c);
+        }
+        return new BenchmarkData(dataset, centers, k);
+    }
+
+    // Початкові центроїди — k різних рядків, вибраних із фіксованим зерном (однакові для всіх реалізацій)
+    int[] initialRows() {
+        Random random = new Random(SEED + 1);
+        int n = dataset.size();
+        int[] rows = new int[Math.min(k, n)];
+        boolean[] used = new boolean[n];
+        for (int i = 0; i < rows.length; i++) {
+            int row;
+            do row = random.nextInt(n); while (used[row]);
+            used[row] = true;
+            rows[i] = row;
+        }
+        return rows;
+    }
+
+    double[] initialCentroids() {
+        int d = dataset.dimension();
+        int[] rows = initialRows();
+        double[] centroids = new double[rows.length * d];
+        for (int i = 0; i < rows.length; i++) System.arraycopy(dataset.values(), rows[i] * d, centroids, i * d, d);
+        return centroids;
+    }
+
+    List<DataPoint> toPoints() {
+        return dataset.toPoints();
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.bench;
+
+import org.example.algo.CalinskiHarabaszCalculator;
+import org.example.model.DataPoint;
+import org.example.model.Dataset;
+import org.openjdk.jmh.annotations.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Індекс Калінського-Харабаша за готовими мітками й центрами: DATASET — поточний розрахунок
+// на плоскому масиві, REFERENCE — вихідний на List<DataPoint>
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "--add-modules=jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class CalinskiHarabaszBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int n;
+
+    @Param({"2", "16", "64"})
+    public int d;
+
+    @Param({"2", "7", "50"})
+    public int k;
+
+    @Param({"DATASET", "REFERENCE"})
+    public String method;
+
+    private BenchmarkData data;
+    private List<DataPoint> points;
+    private List<DataPoint> centroids;
+    private final CalinskiHarabaszCalculator calculator = new CalinskiHarabaszCalculator();
+    private final ReferenceCalinskiHarabasz reference = new ReferenceCalinskiHarabasz();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = BenchmarkData.blobs(n, d, k);
+        if (method.equals("REFERENCE")) {
+            points = data.toPoints();
+            centroids = new Dataset(data.centers.clone(), k, d).toPoints();
+        }
+    }
+
+    @Benchmark
+    public double calinskiHarabasz() {
+        return method.equals("REFERENCE")
+                ? reference.calculateCH(points, centroids)
+                : calculator.calculateCH(data.dataset, data.centers, k);
+    }
+}
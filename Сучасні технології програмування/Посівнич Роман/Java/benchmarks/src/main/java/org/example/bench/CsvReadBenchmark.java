@@ -0,0 +1,115 @@
+package org.example.bench;
+
+import org.example.io.CsvRowSource;
+import org.openjdk.jmh.annotations.*;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Пропускна здатність читання CSV: NIO — CsvRowSource (розбір із байтів), REFERENCE — BufferedReader,
+// String.split і Double.parseDouble. Файл генерується один раз (фіксоване зерно) розміром megabytes;
+// для багатогігабайтних файлів: -p megabytes=4096 або -Dbench.csv=шлях до готового файлу з тими ж стовпцями.
+// Лічильники bytes і rows виводяться як швидкість (за секунду).
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+public class CsvReadBenchmark {
+    private static final List<String> HEADER = List.of("id", "income", "score", "age", "rating", "segment", "x1", "x2", "x3");
+    private static final List<String> COLUMNS = List.of("income", "score", "age", "rating");
+    private static final int BATCH_ROWS = 4096;
+
+    @Param({"256"})
+    public int megabytes;
+
+    @Param({"NIO", "REFERENCE"})
+    public String reader;
+
+    private Path file;
+    private boolean generated;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long bytes;
+        public long rows;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String existing = System.getProperty("bench.csv");
+        if (existing != null) {
+            file = Path.of(existing);
+            return;
+        }
+        file = Files.createTempFile("kmeans-bench", ".csv");
+        generated = true;
+        long target = (long) megabytes << 20;
+        Random random = new Random(BenchmarkData.SEED);
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write(String.join(",", HEADER));
+            out.write('\n');
+            long written = 0;
+            for (long id = 0; written < target; id++) {
+                String line = String.format(Locale.ROOT, "%d,%.3f,%d,%d,%.2f,\"%s\",%.6f,%.6e,%.17g%n",
+                        id, random.nextDouble() * 150, random.nextInt(100) + 1, 18 + random.nextInt(60),
+                        random.nextDouble() * 10, random.nextBoolean() ? "retail, online" : "wholesale",
+                        random.nextGaussian(), random.nextGaussian() * 1e5, random.nextDouble());
+                out.write(line);
+                written += line.length();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (generated) Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public double read(Counters counters) throws IOException {
+        double checksum = reader.equals("REFERENCE") ? readReference(counters) : readNio(counters);
+        counters.bytes += Files.size(file);
+        return checksum;
+    }
+
+    private double readNio(Counters counters) throws IOException {
+        double checksum = 0;
+        try (CsvRowSource source = CsvRowSource.open(file, COLUMNS)) {
+            double[] buffer = new double[BATCH_ROWS * COLUMNS.size()];
+            int rows;
+            while ((rows = source.read(buffer, BATCH_ROWS)) > 0) {
+                counters.rows += rows;
+                checksum += buffer[0];
+            }
+        }
+        return checksum;
+    }
+
+    private double readReference(Counters counters) throws IOException {
+        double checksum = 0;
+        int[] indices = new int[COLUMNS.size()];
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<String> header = List.of(in.readLine().split(","));
+            for (int i = 0; i < indices.length; i++) indices[i] = header.indexOf(COLUMNS.get(i));
+            double[] row = new double[indices.length];
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] fields = line.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)");
+                for (int i = 0; i < indices.length; i++) row[i] = Double.parseDouble(fields[indices[i]]);
+                counters.rows++;
+                checksum += row[0];
+            }
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.bench;
+
+import org.example.algo.HamerlyKMeansClusterer;
+import org.example.algo.KMeansClusterer;
+import org.example.model.DataPoint;
+import org.openjdk.jmh.annotations.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Повна кластеризація з однаковими початковими центроїдами й лімітом ітерацій: LLOYD і HAMERLY —
+// поточні реалізації, REFERENCE — вихідна на List<DataPoint> (порівняння кроку оновлення при k = 7 і 50)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "--add-modules=jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class KMeansBenchmark {
+    private static final int MAX_ITERATIONS = 20;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int n;
+
+    @Param({"2", "16", "64"})
+    public int d;
+
+    @Param({"2", "7", "50"})
+    public int k;
+
+    @Param({"LLOYD", "HAMERLY", "REFERENCE"})
+    public String algorithm;
+
+    private BenchmarkData data;
+    private double[] initialCentroids;
+    private List<DataPoint> points;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = BenchmarkData.blobs(n, d, k);
+        initialCentroids = data.initialCentroids();
+        if (algorithm.equals("REFERENCE")) points = data.toPoints();
+    }
+
+    @Benchmark
+    public Object cluster() {
+        switch (algorithm) {
+            case "REFERENCE":
+                return new ReferenceKMeansClusterer(points, k, MAX_ITERATIONS, data.initialRows()).cluster();
+            case "HAMERLY":
+                return fit(new HamerlyKMeansClusterer(data.dataset, k, MAX_ITERATIONS));
+            default:
+                return fit(new KMeansClusterer(data.dataset, k, MAX_ITERATIONS));
+        }
+    }
+
+    private int[] fit(KMeansClusterer clusterer) {
+        clusterer.setInitialCentroids(initialCentroids);
+        return clusterer.fit();
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.bench;
+
+import org.example.model.DataPoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Вихідна реалізація k-means (List<DataPoint>, фільтр потоком для кожного кластера) — точка відліку
+// для порівняння. Змінено лише вибір початкових центроїдів: задані рядки замість випадкових.
+final class ReferenceKMeansClusterer {
+    private final List<DataPoint> dataPoints;
+    private final int k;
+    private final int maxIterations;
+    private final int[] initialRows;
+    private final List<DataPoint> centroids = new ArrayList<>();
+
+    ReferenceKMeansClusterer(List<DataPoint> dataPoints, int k, int maxIterations, int[] initialRows) {
+        this.dataPoints = dataPoints;
+        this.k = k;
+        this.maxIterations = maxIterations;
+        this.initialRows = initialRows;
+    }
+
+    private void initializeCentroids() {
+        for (int index : initialRows) {
+            centroids.add(new DataPoint(dataPoints.get(index).getFeatures().clone()));
+        }
+    }
+
+    private void assignPointsToClusters() {
+        for (DataPoint point : dataPoints) {
+            double minDistance = Double.MAX_VALUE;
+            int closestCluster = -1;
+            for (int i = 0; i < centroids.size(); i++) {
+                double distance = point.distanceTo(centroids.get(i));
+                if (distance < minDistance) {
+                    minDistance = distance;
+                    closestCluster = i;
+                }
+            }
+            point.setClusterId(closestCluster);
+        }
+    }
+
+    private boolean updateCentroids() {
+        boolean changed = false;
+        for (int i = 0; i < k; i++) {
+            final int clusterIndex = i;
+            List<DataPoint> pointsInCluster = dataPoints.stream()
+                    .filter(p -> p.getClusterId() == clusterIndex)
+                    .collect(Collectors.toList());
+
+            if (pointsInCluster.isEmpty()) continue;
+
+            double[] sumFeatures = new double[dataPoints.get(0).getFeatures().length];
+            for (DataPoint point : pointsInCluster) {
+                for (int j = 0; j < sumFeatures.length; j++) {
+                    sumFeatures[j] += point.getFeatures()[j];
+                }
+            }
+            double[] newFeatures = new double[sumFeatures.length];
+            for (int j = 0; j < sumFeatures.length; j++) {
+                newFeatures[j] = sumFeatures[j] / pointsInCluster.size();
+            }
+            DataPoint newCentroid = new DataPoint(newFeatures);
+            if (newCentroid.distanceTo(centroids.get(i)) > 1e-6) changed = true;
+            centroids.get(i).setFeatures(newFeatures);
+        }
+        return changed;
+    }
+
+    List<DataPoint> cluster() {
+        centroids.clear();
+        initializeCentroids();
+        for (int i = 0; i < maxIterations; i++) {
+            assignPointsToClusters();
+            if (!updateCentroids()) break;
+        }
+        assignPointsToClusters();
+        return dataPoints;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.bench;
+
+import org.example.algo.SilhouetteCalculator;
+import org.example.model.DataPoint;
+import org.openjdk.jmh.annotations.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Точний силует, O(n^2 * d): плитковий EXACT проти вихідного потокового REFERENCE.
+// Понад 10k точок REFERENCE непридатний, тому тут n обмежено; великі n — у ApproximateSilhouetteBenchmark.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "--add-modules=jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class SilhouetteBenchmark {
+    @Param({"1000", "10000"})
+    public int n;
+
+    @Param({"2", "16", "64"})
+    public int d;
+
+    @Param({"2", "7", "50"})
+    public int k;
+
+    @Param({"EXACT", "REFERENCE"})
+    public String method;
+
+    private BenchmarkData data;
+    private List<DataPoint> points;
+    private final SilhouetteCalculator calculator = new SilhouetteCalculator();
+    private final ReferenceSilhouette reference = new ReferenceSilhouette();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = BenchmarkData.blobs(n, d, k);
+        if (method.equals("REFERENCE")) points = data.toPoints();
+    }
+
+    @Benchmark
+    public double silhouette() {
+        return method.equals("REFERENCE")
+                ? reference.calculateOverallSilhouette(points)
+                : calculator.calculateOverallSilhouette(data.dataset);
+    }
+}
@@ -1,34 +1,52 @@
 package org.example;
 
-import org.example.algo.CalinskiHarabaszCalculator;
-import org.example.algo.KMeansClusterer;
-import org.example.algo.SilhouetteCalculator;
+import org.example.algo.ClusterProfiler;
+import org.example.algo.KSweepEngine;
+import org.example.algo.Normalizer;
+import org.example.io.CsvRowSource;
+import org.example.model.ClusterProfile;
 import org.example.model.ClusterResult;
-import org.example.model.DataPoint;
+import org.example.model.Dataset;
 import org.example.ui.*;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.LineBorder;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public class Main extends JFrame {
 
     private static final int MAX_K = 7;
     private static final int MIN_K = 2;
+    private static final int RESTARTS = 5;
     private int currentK = 5;
 
-    private final List<DataPoint> initialData;
-    private final List<double[]> rawData;
-    private final List<String> ALL_FEATURE_NAMES = Arrays.asList(
+    private final Dataset initialData;
+    private final Dataset rawData;
+    private final List<String> ALL_FEATURE_NAMES;
+    private static final List<String> SYNTHETIC_FEATURE_NAMES = Arrays.asList(
             "Річний Дохід (тис. $)", "Оцінка Витрат (1-100)", "Вік (Роки)", "Кредитний Рейтинг (1-10)"
     );
 
     private ClusterResult currentResult;
+    private int currentResultK;
+    // Профіль поточного результату у вихідних одиницях; рахується у фоні один раз на результат
+    private ClusterProfile currentProfile;
+    // Фоновий перебір k; результати застарілих запусків відкидаються за номером покоління
+    private final KSweepEngine sweepEngine = new KSweepEngine();
+    private KSweepEngine.Sweep currentSweep;
+    private int sweepGeneration;
+    private Map<Integer, Double> silScores = new TreeMap<>();
+    private Map<Integer, Double> chScores = new TreeMap<>();
+    // Центроїди останнього перебору: у повторному запуску на тих самих даних вони — один із RESTARTS
+    // перезапусків (перезапуск #0), решта RESTARTS - 1 ініціалізуються як звичайно
+    private final Map<Integer, double[]> warmStarts = new HashMap<>();
     private final ClusteringPanel clusteringPanel;
     private final MetricsPanel metricsPanel;
     private final LegendPanel legendPanel;
@@ -38,25 +56,39 @@ public class Main extends JFrame {
     private final JComboBox<String> featureYSelector;
     private final JTabbedPane tabbedPane;
     private final JScrollPane tableScrollPane;
+    private final ClusterTableModel tableModel;
+    private final JComboBox<String> clusterFilter;
 
-    public Main() {
-        rawData = loadMallData();
-        initialData = normalizeData(rawData);
+    // data == null — синтетичні дані
+    public Main(Dataset data, List<String> featureNames) {
+        rawData = data != null ? data : loadMallData();
+        ALL_FEATURE_NAMES = data != null ? featureNames : SYNTHETIC_FEATURE_NAMES;
+        initialData = new Normalizer(Normalizer.Mode.MIN_MAX).fitTransform(rawData.copy());
+        sweepEngine.setRestarts(RESTARTS);
 
         // UI Components Setup
         kSelector = new JComboBox<>(getKOptions());
         kSelector.setSelectedItem(currentK);
         String[] feats = ALL_FEATURE_NAMES.toArray(new String[0]);
         featureXSelector = new JComboBox<>(feats); featureXSelector.setSelectedIndex(0);
-        featureYSelector = new JComboBox<>(feats); featureYSelector.setSelectedIndex(1);
+        // Для однієї ознаки обидві осі показують її
+        featureYSelector = new JComboBox<>(feats); featureYSelector.setSelectedIndex(feats.length > 1 ? 1 : 0);
+        kSelector.addActionListener(e -> runClustering());
+        featureXSelector.addActionListener(e -> updateAxes());
+        featureYSelector.addActionListener(e -> updateAxes());
 
         clusteringPanel = new ClusteringPanel(ALL_FEATURE_NAMES);
         metricsPanel = new MetricsPanel();
         legendPanel = new LegendPanel();
         resultFormPanel = new ResultFormPanel(ALL_FEATURE_NAMES);
 
-        // Table setup
-        tableScrollPane = new JScrollPane(new JTable());
+        // Table setup: модель читає клітинки на вимогу, сортування кліком по заголовку
+        tableModel = new ClusterTableModel(ALL_FEATURE_NAMES);
+        JTable table = new JTable(tableModel);
+        tableModel.installHeaderSorting(table);
+        tableScrollPane = new JScrollPane(table);
+        clusterFilter = new JComboBox<>(new String[]{"Усі кластери"});
+        clusterFilter.addActionListener(e -> tableModel.setClusterFilter(clusterFilter.getSelectedIndex() - 1));
         UIUtils.customizeScrollPane(tableScrollPane, new Color(54, 162, 235));
 
         tabbedPane = new JTabbedPane();
@@ -78,7 +110,13 @@ public class Main extends JFrame {
     private void setupTabs() {
         // Tab 1
         JPanel tab1 = new JPanel(new BorderLayout());
-        JSplitPane split = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT, tableScrollPane, resultFormPanel);
+        JPanel tablePanel = new JPanel(new BorderLayout());
+        JPanel filterBar = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        filterBar.add(new JLabel("Показати:"));
+        filterBar.add(clusterFilter);
+        tablePanel.add(filterBar, BorderLayout.NORTH);
+        tablePanel.add(tableScrollPane, BorderLayout.CENTER);
+        JSplitPane split = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT, tablePanel, resultFormPanel);
         split.setResizeWeight(0.7);
         tab1.add(split);
         tabbedPane.addTab("1. Дані та Результати", tab1);
@@ -142,85 +180,92 @@ public class Main extends JFrame {
 
     private void runClustering() {
         currentK = (Integer) kSelector.getSelectedItem();
-        int xIdx = featureXSelector.getSelectedIndex();
-        int yIdx = featureYSelector.getSelectedIndex();
-
-        // 1. Run KMeans
-        List<DataPoint> dataCopy = deepCopyData();
-        KMeansClusterer kmeans = new KMeansClusterer(dataCopy, currentK, 100);
-        List<DataPoint> clustered = kmeans.cluster();
-        currentResult = new ClusterResult(clustered, kmeans.getCentroids());
-
-        // 2. Update Table
-        updateTable(clustered);
-
-        // 3. Calc Metrics for graph
-        Map<Integer, Double> sil = new HashMap<>();
-        Map<Integer, Double> ch = new HashMap<>();
-        SilhouetteCalculator silCalc = new SilhouetteCalculator();
-        CalinskiHarabaszCalculator chCalc = new CalinskiHarabaszCalculator();
-
-        for(int k=MIN_K; k<=MAX_K; k++) {
-            List<DataPoint> temp = deepCopyData();
-            KMeansClusterer tempKm = new KMeansClusterer(temp, k, 100);
-            List<DataPoint> res = tempKm.cluster();
-            sil.put(k, silCalc.calculateOverallSilhouette(res));
-            ch.put(k, chCalc.calculateCH(res, tempKm.getCentroids()));
-        }
+        if (currentSweep != null) currentSweep.cancel();
+        int generation = ++sweepGeneration;
+        silScores = new TreeMap<>();
+        chScores = new TreeMap<>();
+        metricsPanel.beginSweep(currentK);
+
+        // KMeans для кожного k виконується у фоні, графіки доповнюються в міру готовності.
+        // k, для яких попередній перебір не встиг (скасований зміною k), стартують з центроїдів
+        // найближчого готового k, розщеплених чи злитих до потрібної кількості (WarmStart.adapt)
+        currentSweep = sweepEngine.start(initialData, MIN_K, MAX_K, new HashMap<>(warmStarts), new KSweepEngine.Listener() {
+            @Override public void onResult(KSweepEngine.Result result) {
+                SwingUtilities.invokeLater(() -> showSweepResult(generation, result));
+            }
 
-        // 4. Update UI Panels
-        clusteringPanel.updateData(currentResult, currentK, xIdx, yIdx);
-        legendPanel.updateData(currentResult);
-        resultFormPanel.updateResults(currentResult, currentK, sil, ch);
-        metricsPanel.updateMetrics(sil, ch, currentK);
+            @Override public void onError(int k, Throwable error) {
+                SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(Main.this,
+                        "Помилка кластеризації (K=" + k + "): " + error.getMessage()));
+            }
+        });
     }
 
-    private void updateTable(List<DataPoint> clustered) {
-        String[] cols = new String[ALL_FEATURE_NAMES.size()*2 + 1];
-        for(int i=0; i<ALL_FEATURE_NAMES.size(); i++) {
-            cols[i] = ALL_FEATURE_NAMES.get(i) + " (Orig)";
-            cols[i+ALL_FEATURE_NAMES.size()] = ALL_FEATURE_NAMES.get(i) + " (Norm)";
+    private void showSweepResult(int generation, KSweepEngine.Result result) {
+        if (generation != sweepGeneration) return;
+        int k = result.getK();
+        warmStarts.put(k, result.getClusterer().getCentroidValues().clone());
+        silScores.put(k, result.getSilhouette());
+        chScores.put(k, result.getCalinskiHarabasz());
+        metricsPanel.putMetric(k, result.getSilhouette(), result.getCalinskiHarabasz());
+
+        if (k == currentK) {
+            currentResult = new ClusterResult(result.getDataset(), result.getLabels(), result.getClusterer().getCentroids());
+            currentResultK = k;
+            currentProfile = null;
+            resultFormPanel.setProfileError(null);
+            computeProfile(currentResult);
+            updateTable(currentResult);
+            updateAxes();
+            legendPanel.updateData(currentResult);
         }
-        cols[cols.length-1] = "Cluster";
-
-        String[][] data = new String[rawData.size()][cols.length];
-        for(int i=0; i<rawData.size(); i++) {
-            for(int j=0; j<ALL_FEATURE_NAMES.size(); j++) {
-                data[i][j] = String.format("%.2f", rawData.get(i)[j]);
-                data[i][j+ALL_FEATURE_NAMES.size()] = String.format("%.3f", clustered.get(i).getFeatures()[j]);
-            }
-            data[i][cols.length-1] = String.valueOf(clustered.get(i).getClusterId());
+        if (currentResult != null && currentResultK == currentK) {
+            resultFormPanel.updateResults(currentResult, currentK, currentProfile, silScores, chScores);
         }
-        JTable t = (JTable) tableScrollPane.getViewport().getView();
-        t.setModel(new DefaultTableModel(data, cols));
     }
 
-    private List<DataPoint> deepCopyData() {
-        return initialData.stream().map(p -> new DataPoint(p.getFeatures())).collect(Collectors.toList());
+    private void computeProfile(ClusterResult result) {
+        int k = currentResultK;
+        // Помилка профілювання показується в панелі результатів замість профілю
+        CompletableFuture.supplyAsync(() -> ClusterProfiler.profile(rawData, result.getLabels(), k, true))
+                .whenComplete((profile, error) -> SwingUtilities.invokeLater(() -> {
+                    if (currentResult != result) return;
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                        resultFormPanel.setProfileError(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+                    } else {
+                        currentProfile = profile;
+                    }
+                    resultFormPanel.updateResults(result, k, currentProfile, silScores, chScores);
+                }));
     }
 
-    private List<double[]> loadMallData() {
-        List<double[]> data = new ArrayList<>();
-        Random r = new Random();
-        for(int i=0;i<200;i++) data.add(new double[]{r.nextDouble()*100, r.nextDouble()*100, 18+r.nextDouble()*50, r.nextDouble()*10});
-        return data;
+    private void updateAxes() {
+        if (currentResult == null) return;
+        clusteringPanel.updateData(currentResult, currentK, featureXSelector.getSelectedIndex(), featureYSelector.getSelectedIndex());
     }
 
-    private List<DataPoint> normalizeData(List<double[]> raw) {
-        if(raw.isEmpty()) return new ArrayList<>();
-        int feats = raw.get(0).length;
-        double[] min = new double[feats], max = new double[feats];
-        for(int j=0; j<feats; j++) { min[j] = raw.get(0)[j]; max[j] = raw.get(0)[j]; }
-        for(double[] row : raw) {
-            for(int j=0; j<feats; j++) { min[j] = Math.min(min[j], row[j]); max[j] = Math.max(max[j], row[j]); }
+    private void updateTable(ClusterResult clustered) {
+        // Вибір фільтра зберігається, якщо такий кластер є і в новому результаті.
+        // Модель списку заповнюється до setModel, щоб не спрацьовував обробник вибору.
+        if (clusterFilter.getItemCount() != currentResultK + 1) {
+            int selected = clusterFilter.getSelectedIndex();
+            DefaultComboBoxModel<String> items = new DefaultComboBoxModel<>();
+            items.addElement("Усі кластери");
+            for (int c = 0; c < currentResultK; c++) items.addElement("Кластер " + c);
+            int index = selected < items.getSize() ? selected : 0;
+            items.setSelectedItem(items.getElementAt(index));
+            clusterFilter.setModel(items);
+            if (index != selected) tableModel.setClusterFilter(index - 1);
         }
-        List<DataPoint> res = new ArrayList<>();
-        for(double[] row : raw) {
-            double[] norm = new double[feats];
-            for(int j=0; j<feats; j++) norm[j] = (row[j] - min[j]) / (max[j] - min[j]);
-            res.add(new DataPoint(norm));
-        }
-        return res;
+        tableModel.setData(rawData, clustered);
+    }
+
+    private Dataset loadMallData() {
+        List<double[]> data = new ArrayList<>();
+        Random r = new Random();
+        for(int i=0;i<200;i++) data.add(new double[]{r.nextDouble()*100, r.nextDouble()*100, 18+r.nextDouble()*50, r.nextDouble()*10});
+        return Dataset.fromRows(data);
     }
 
     private Integer[] getKOptions() {
@@ -229,7 +274,21 @@ public class Main extends JFrame {
         return list.toArray(new Integer[0]);
     }
 
+    // Аргументи: [файл.csv|файл.tsv [стовпець ...]]; без стовпців беруться всі стовпці файлу.
+    // Файл читається до запуску UI; якщо його не вдалося прочитати — синтетичні дані.
     public static void main(String[] args) {
-        SwingUtilities.invokeLater(Main::new);
+        Dataset data = null;
+        List<String> featureNames = null;
+        if (args.length > 0) {
+            try (CsvRowSource source = CsvRowSource.open(Path.of(args[0]), Arrays.asList(args).subList(1, args.length))) {
+                data = Dataset.fromSource(source);
+                featureNames = source.getColumns();
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Не вдалося завантажити " + args[0] + ": " + e.getMessage());
+            }
+        }
+        Dataset loaded = data;
+        List<String> names = featureNames;
+        SwingUtilities.invokeLater(() -> new Main(loaded, names));
     }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package org.example.algo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+// Паралельні проходи по блоках рядків з тими самими правилами, що й KMeansClusterer: зовнішній виконавець,
+// власний ForkJoinPool на parallelism потоків або (parallelism == 1) поточний потік. Переривання потоку,
+// що чекає на блоки, скасовує ще не розпочаті блоки — CancellationException з name у повідомленні.
+final class BlockTasks {
+    private BlockTasks() {}
+
+    // action отримує пул для run(...); null — усе в поточному потоці
+    static <T> T withPool(int parallelism, ExecutorService executor, Function<ExecutorService, T> action) {
+        if (executor != null) return action.apply(executor);
+        if (parallelism == 1) return action.apply(null);
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            return action.apply(pool);
+        }
+    }
+
+    static void run(ExecutorService pool, int blocks, IntConsumer body, String name) {
+        if (pool == null) {
+            for (int b = 0; b < blocks; b++) {
+                checkInterrupted(name);
+                body.accept(b);
+            }
+            return;
+        }
+        AtomicBoolean cancelled = new AtomicBoolean();
+        List<Future<?>> futures = new ArrayList<>(blocks);
+        for (int b = 0; b < blocks; b++) {
+            final int block = b;
+            futures.add(pool.submit(() -> {
+                if (!cancelled.get()) body.accept(block);
+            }));
+        }
+        try {
+            for (Future<?> future : futures) future.get();
+        } catch (InterruptedException e) {
+            cancelled.set(true);
+            for (Future<?> future : futures) future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException(name + " interrupted");
+        } catch (ExecutionException e) {
+            cancelled.set(true);
+            if (e.getCause() instanceof CancellationException) throw (CancellationException) e.getCause();
+            throw new IllegalStateException(name + " block failed", e.getCause());
+        }
+    }
+
+    static void checkInterrupted(String name) {
+        if (Thread.currentThread().isInterrupted()) throw new CancellationException(name + " interrupted");
+    }
+}
@@ -1,38 +1,54 @@
 package org.example.algo;
 
+import org.example.model.ClusterStatistics;
 import org.example.model.DataPoint;
+import org.example.model.Dataset;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 public class CalinskiHarabaszCalculator {
     public double calculateCH(List<DataPoint> points, List<DataPoint> centroids) {
         if (points == null || points.isEmpty()) return 0.0;
-        int N = points.size();
-        int K = centroids.size();
-        if (K <= 1 || N <= K) return 0.0;
+        int d = points.get(0).getFeatures().length;
+        double[] centroidValues = new double[centroids.size() * d];
+        for (int c = 0; c < centroids.size(); c++) {
+            System.arraycopy(centroids.get(c).getFeatures(), 0, centroidValues, c * d, d);
+        }
+        return calculateCH(Dataset.fromPoints(points), centroidValues, centroids.size());
+    }
+
+    // Без обходу точок: з накопиченої статистики KMeansClusterer.getStatistics()
+    public double calculateCH(ClusterStatistics statistics) {
+        return statistics.calinskiHarabasz();
+    }
 
-        int numFeatures = points.get(0).getFeatures().length;
+    // centroids — k x d масив (row-major), як у KMeansClusterer.getCentroidValues().
+    // Точки без кластера (шум DBSCAN, мітка < 0) не входять ні в N, ні в загальне середнє
+    public double calculateCH(Dataset dataset, double[] centroids, int K) {
+        int size = dataset.size(), numFeatures = dataset.dimension();
+        double[] values = dataset.values();
+        int[] labels = dataset.labels();
+
+        int N = 0;
         double[] globalMean = new double[numFeatures];
-        for (DataPoint p : points) {
-            for (int i = 0; i < numFeatures; i++) globalMean[i] += p.getFeatures()[i];
+        for (int p = 0; p < size; p++) {
+            if (labels[p] < 0 || labels[p] >= K) continue;
+            N++;
+            for (int i = 0; i < numFeatures; i++) globalMean[i] += values[p * numFeatures + i];
         }
+        if (N == 0 || K <= 1 || N <= K) return 0.0;
         for (int i = 0; i < numFeatures; i++) globalMean[i] /= N;
-        DataPoint globalCenter = new DataPoint(globalMean);
 
-        Map<Integer, List<DataPoint>> clusters = points.stream().collect(Collectors.groupingBy(DataPoint::getClusterId));
+        int[] clusterSizes = new int[K];
         double Tr_B = 0.0, Tr_W = 0.0;
-
-        for (int i = 0; i < K; i++) {
-            DataPoint centroid = centroids.get(i);
-            int n_i = clusters.getOrDefault(i, List.of()).size();
-            double dist = centroid.distanceTo(globalCenter);
-            Tr_B += n_i * dist * dist;
-            for (DataPoint p : clusters.getOrDefault(i, List.of())) {
-                double d = p.distanceTo(centroid);
-                Tr_W += d * d;
-            }
+        for (int p = 0; p < size; p++) {
+            int c = labels[p];
+            if (c < 0 || c >= K) continue;
+            clusterSizes[c]++;
+            Tr_W += Distances.squaredEuclidean(values, p * numFeatures, centroids, c * numFeatures, numFeatures);
+        }
+        for (int c = 0; c < K; c++) {
+            Tr_B += clusterSizes[c] * Distances.squaredEuclidean(centroids, c * numFeatures, globalMean, 0, numFeatures);
         }
         return (Tr_W == 0) ? 0.0 : (Tr_B / (K - 1)) / (Tr_W / (N - K));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,22 @@
+package org.example.algo;
+
+import org.example.model.Dataset;
+import java.util.concurrent.ExecutorService;
+
+// Стратегія вибору початкових центроїдів. Результат — min(k, n) x d масив (row-major),
+// однаковий для однакового зерна.
+@FunctionalInterface
+public interface CentroidSeeding {
+    double[] initialCentroids(Dataset dataset, int k, long seed);
+
+    // pool — виконавець кластеризатора (null — поточний потік); послідовні стратегії його не потребують
+    default double[] initialCentroids(Dataset dataset, int k, long seed, ExecutorService pool) {
+        return initialCentroids(dataset, k, seed);
+    }
+
+    static CentroidSeeding random() { return new RandomSeeding(); }
+
+    static CentroidSeeding kMeansPlusPlus() { return new KMeansPlusPlusSeeding(); }
+
+    static CentroidSeeding kMeansParallel() { return new KMeansParallelSeeding(); }
+}
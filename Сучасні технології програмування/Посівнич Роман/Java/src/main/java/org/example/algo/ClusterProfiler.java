@@ -0,0 +1,31 @@
+package org.example.algo;
+
+import org.example.model.ClusterProfile;
+import org.example.model.Dataset;
+import java.util.stream.IntStream;
+
+// Профілі кластерів за один паралельний прохід. Блоки — як у KMeansClusterer (залежать лише від n),
+// часткові профілі зливаються в порядку блоків, тож результат, включно з квантилями,
+// не залежить від кількості потоків.
+public final class ClusterProfiler {
+    private static final int MIN_BLOCK_ROWS = 4096;
+    private static final int MAX_BLOCKS = 64;
+
+    private ClusterProfiler() {}
+
+    // data — ознаки в будь-яких одиницях (наприклад, вихідні, до нормалізації), labels — мітки запуску
+    public static ClusterProfile profile(Dataset data, int[] labels, int clusters, boolean quantiles) {
+        int n = data.size(), d = data.dimension();
+        if (labels.length != n) throw new IllegalArgumentException("labels.length must be data.size()");
+        int blocks = Math.max(1, Math.min(MAX_BLOCKS, (n + MIN_BLOCK_ROWS - 1) / MIN_BLOCK_ROWS));
+        ClusterProfile[] partial = new ClusterProfile[blocks];
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            ClusterProfile profile = new ClusterProfile(clusters, d, quantiles);
+            profile.add(data, labels, (int) ((long) b * n / blocks), (int) ((long) (b + 1) * n / blocks));
+            partial[b] = profile;
+        });
+        ClusterProfile total = partial[0];
+        for (int b = 1; b < blocks; b++) total.merge(partial[b]);
+        return total;
+    }
+}
@@ -0,0 +1,190 @@
+package org.example.algo;
+
+import org.example.index.SpatialIndex;
+import org.example.model.ClusterResult;
+import org.example.model.DataPoint;
+import org.example.model.Dataset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// DBSCAN: точка — ядро, якщо в радіусі eps щонайменше minPoints точок (включно з нею самою).
+// Сусідні ядра утворюють кластер, точки поруч із ядром (межові) отримують його мітку, решта — шум (NOISE).
+// Запити сусідів — через просторовий індекс (KD-дерево / кульове дерево) паралельно по блоках рядків;
+// ядра об'єднуються неблокуючим union-find, корінь компоненти — ядро з найменшим індексом.
+// Межова точка належить кластеру ядра-сусіда з найменшим індексом, кластери нумеруються в порядку
+// своїх коренів — тож мітки не залежать від кількості потоків.
+// Паралельні проходи — на власному ForkJoinPool на час fit(): переривання потоку, що викликав fit(),
+// скасовує роботу (CancellationException), як і в KMeansClusterer.
+public class DbscanClusterer {
+    public static final int NOISE = -1;
+    private static final int BLOCK_ROWS = 4096;
+    private static final String NAME = "DBSCAN";
+
+    private final Dataset dataset;
+    private final double eps;
+    private final int minPoints;
+    private final int parallelism;
+    private boolean[] core = new boolean[0];
+    private int clusterCount;
+    private int noiseCount;
+    private double[] centroids = new double[0];
+
+    public DbscanClusterer(List<DataPoint> dataPoints, double eps, int minPoints) {
+        this(Dataset.fromPoints(dataPoints), eps, minPoints);
+    }
+
+    // Потоків стільки, скільки процесорів
+    public DbscanClusterer(Dataset dataset, double eps, int minPoints) {
+        this(dataset, eps, minPoints, Runtime.getRuntime().availableProcessors());
+    }
+
+    // parallelism == 1 — усе в потоці, що викликав fit()
+    public DbscanClusterer(Dataset dataset, double eps, int minPoints, int parallelism) {
+        if (!(eps >= 0)) throw new IllegalArgumentException("eps must be >= 0");
+        if (minPoints < 1) throw new IllegalArgumentException("minPoints must be >= 1");
+        if (parallelism < 1) throw new IllegalArgumentException("parallelism must be >= 1");
+        this.dataset = dataset;
+        this.eps = eps;
+        this.minPoints = minPoints;
+        this.parallelism = parallelism;
+    }
+
+    public Dataset getDataset() { return dataset; }
+    public double getEps() { return eps; }
+    public int getMinPoints() { return minPoints; }
+    public int getParallelism() { return parallelism; }
+    public int getClusterCount() { return clusterCount; }
+    public int getNoiseCount() { return noiseCount; }
+
+    public int getCoreCount() {
+        int count = 0;
+        for (boolean isCore : core) if (isCore) count++;
+        return count;
+    }
+
+    public boolean isCore(int point) { return core[point]; }
+
+    // Середні точок кожного кластера (без шуму), clusterCount x d
+    public double[] getCentroidValues() { return centroids; }
+
+    public List<DataPoint> getCentroids() {
+        int d = dataset.dimension();
+        List<DataPoint> result = new ArrayList<>(clusterCount);
+        for (int c = 0; c < clusterCount; c++) result.add(new DataPoint(Arrays.copyOfRange(centroids, c * d, (c + 1) * d)));
+        return result;
+    }
+
+    // Кластеризує набір даних і повертає мітки (ті самі, що в dataset.labels()); шум — NOISE
+    public int[] fit() {
+        return BlockTasks.withPool(parallelism, null, this::fit);
+    }
+
+    private int[] fit(ExecutorService pool) {
+        int n = dataset.size(), d = dataset.dimension();
+        double[] values = dataset.values();
+        int[] labels = dataset.labels();
+        SpatialIndex index = SpatialIndex.build(values, n, d);
+        int blocks = (n + BLOCK_ROWS - 1) / BLOCK_ROWS;
+
+        // 1. Ядра: пошук зупиняється на minPoints-му сусіді
+        boolean[] isCore = new boolean[n];
+        BlockTasks.run(pool, blocks, b -> {
+            SpatialIndex.Searcher searcher = index.searcher();
+            for (int p = b * BLOCK_ROWS, end = Math.min(n, p + BLOCK_ROWS); p < end; p++) {
+                isCore[p] = searcher.withinRadius(values, p * d, eps, minPoints) >= minPoints;
+            }
+        }, NAME);
+
+        // 2. Зв'язки ядро-ядро в union-find; для некорових точок — ядро-сусід з найменшим індексом
+        AtomicIntegerArray parent = new AtomicIntegerArray(n);
+        for (int p = 0; p < n; p++) parent.set(p, p);
+        int[] owner = new int[n];
+        BlockTasks.run(pool, blocks, b -> {
+            SpatialIndex.Searcher searcher = index.searcher();
+            for (int p = b * BLOCK_ROWS, end = Math.min(n, p + BLOCK_ROWS); p < end; p++) {
+                int count = searcher.withinRadius(values, p * d, eps);
+                int[] neighbours = searcher.results();
+                if (isCore[p]) {
+                    // Сусідство симетричне — кожне ребро достатньо об'єднати з одного боку
+                    for (int i = 0; i < count; i++) {
+                        int q = neighbours[i];
+                        if (q > p && isCore[q]) union(parent, p, q);
+                    }
+                } else {
+                    int lowestCore = -1;
+                    for (int i = 0; i < count; i++) {
+                        int q = neighbours[i];
+                        if (isCore[q] && (lowestCore < 0 || q < lowestCore)) lowestCore = q;
+                    }
+                    owner[p] = lowestCore;
+                }
+            }
+        }, NAME);
+
+        // 3. Мітки: кластери в порядку коренів (найменших індексів)
+        int clusters = 0;
+        for (int p = 0; p < n; p++) {
+            if (isCore[p] && find(parent, p) == p) labels[p] = clusters++;
+        }
+        int noise = 0;
+        for (int p = 0; p < n; p++) {
+            if (isCore[p]) {
+                labels[p] = labels[find(parent, p)];
+            } else if (owner[p] >= 0) {
+                labels[p] = labels[find(parent, owner[p])];
+            } else {
+                labels[p] = NOISE;
+                noise++;
+            }
+        }
+        core = isCore;
+        clusterCount = clusters;
+        noiseCount = noise;
+        centroids = clusterMeans(values, labels, n, d, clusters);
+        return labels;
+    }
+
+    // Власний масив міток і середні кластерів як центроїди; шум (NOISE) панелі показують окремо
+    public ClusterResult toClusterResult() {
+        return new ClusterResult(dataset, dataset.labels().clone(), getCentroids());
+    }
+
+    // Корінь зі скороченням шляху (path halving); конкурентні CAS лише пришвидшують наступні пошуки
+    private static int find(AtomicIntegerArray parent, int x) {
+        while (true) {
+            int p = parent.get(x);
+            if (p == x) return x;
+            int grandparent = parent.get(p);
+            if (p != grandparent) parent.compareAndSet(x, p, grandparent);
+            x = grandparent;
+        }
+    }
+
+    // Більший корінь підвішується під менший; CAS повторюється, якщо корінь тим часом змінився
+    private static void union(AtomicIntegerArray parent, int a, int b) {
+        while (true) {
+            int rootA = find(parent, a), rootB = find(parent, b);
+            if (rootA == rootB) return;
+            int low = Math.min(rootA, rootB), high = Math.max(rootA, rootB);
+            if (parent.compareAndSet(high, high, low)) return;
+        }
+    }
+
+    private static double[] clusterMeans(double[] values, int[] labels, int n, int d, int clusters) {
+        double[] means = new double[clusters * d];
+        int[] counts = new int[clusters];
+        for (int p = 0; p < n; p++) {
+            int c = labels[p];
+            if (c < 0) continue;
+            counts[c]++;
+            for (int j = 0; j < d; j++) means[c * d + j] += values[p * d + j];
+        }
+        for (int c = 0; c < clusters; c++) {
+            for (int j = 0; j < d; j++) means[c * d + j] /= counts[c];
+        }
+        return means;
+    }
+}
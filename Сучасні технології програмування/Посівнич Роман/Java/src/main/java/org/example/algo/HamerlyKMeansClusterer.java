@@ -0,0 +1,134 @@
+package org.example.algo;
+
+import org.example.model.DataPoint;
+import org.example.model.Dataset;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+// K-means з межами Хамерлі: для кожної точки зберігаються верхня межа відстані до свого центроїда
+// і нижня межа до будь-якого іншого. Якщо межі доводять, що інший центроїд не може виграти,
+// відстані для точки не обчислюються. Мітки збігаються з KMeansClusterer (алгоритм Ллойда).
+public class HamerlyKMeansClusterer extends KMeansClusterer {
+    private double[] upper = new double[0];
+    private double[] lower = new double[0];
+    // Половина відстані від центроїда до найближчого іншого центроїда
+    private double[] halfSeparation = new double[0];
+    private boolean boundsReady;
+    private double maxShift, secondMaxShift;
+    private int maxShiftCluster;
+    private long[] blockComputed = new long[0];
+    private long lloydEquivalent;
+
+    public HamerlyKMeansClusterer(List<DataPoint> dataPoints, int k, int maxIterations) {
+        super(dataPoints, k, maxIterations);
+    }
+
+    public HamerlyKMeansClusterer(Dataset dataset, int k, int maxIterations) {
+        super(dataset, k, maxIterations);
+    }
+
+    public HamerlyKMeansClusterer(Dataset dataset, int k, int maxIterations, int parallelism) {
+        super(dataset, k, maxIterations, parallelism);
+    }
+
+    public HamerlyKMeansClusterer(Dataset dataset, int k, int maxIterations, ExecutorService executor) {
+        super(dataset, k, maxIterations, executor);
+    }
+
+    // Кількість обчислених відстаней точка-центроїд за останній запуск
+    public long getDistanceComputations() {
+        long total = 0;
+        for (long computed : blockComputed) total += computed;
+        return total;
+    }
+
+    // Скільки відстаней пропущено порівняно з Ллойдом (n * k на кожен прохід призначення)
+    public long getSkippedDistanceComputations() {
+        return lloydEquivalent - getDistanceComputations();
+    }
+
+    @Override
+    boolean supportsIndexedAssignment() { return false; }
+
+    @Override
+    long distanceComputations() { return getDistanceComputations(); }
+
+    @Override
+    KMeansClusterer createRestart(Dataset view) {
+        return new HamerlyKMeansClusterer(view, getK(), getMaxIterations());
+    }
+
+    @Override
+    void onCentroidsInitialized() {
+        int n = dataset.size();
+        upper = new double[n];
+        lower = new double[n];
+        halfSeparation = new double[centroidCount];
+        blockComputed = new long[blockCount()];
+        lloydEquivalent = 0;
+        boundsReady = false;
+    }
+
+    @Override
+    void beforeAssignment() {
+        int d = dataset.dimension();
+        // Межі стають дійсними після першого повного проходу
+        boundsReady = lloydEquivalent > 0;
+        lloydEquivalent += (long) dataset.size() * centroidCount;
+        for (int c = 0; c < centroidCount; c++) {
+            double nearest = Double.MAX_VALUE;
+            for (int other = 0; other < centroidCount; other++) {
+                if (other == c) continue;
+                nearest = Math.min(nearest, Distances.squaredEuclidean(centroids, c * d, centroids, other * d, d));
+            }
+            halfSeparation[c] = 0.5 * Math.sqrt(nearest);
+        }
+        maxShift = 0;
+        secondMaxShift = 0;
+        maxShiftCluster = -1;
+        for (int c = 0; c < centroidCount; c++) {
+            if (shifts[c] > maxShift) {
+                secondMaxShift = maxShift;
+                maxShift = shifts[c];
+                maxShiftCluster = c;
+            } else if (shifts[c] > secondMaxShift) {
+                secondMaxShift = shifts[c];
+            }
+        }
+    }
+
+    @Override
+    int assignPoint(int point, int block) {
+        double[] values = dataset.values();
+        int d = dataset.dimension();
+        int offset = point * d;
+        if (boundsReady) {
+            int assigned = dataset.getLabel(point);
+            // Зсуви центроїдів після попереднього оновлення послаблюють межі
+            upper[point] += shifts[assigned];
+            lower[point] -= (assigned == maxShiftCluster) ? secondMaxShift : maxShift;
+            double bound = Math.max(halfSeparation[assigned], lower[point]);
+            if (upper[point] < bound) return assigned;
+            upper[point] = Distances.euclidean(values, offset, centroids, assigned * d, d);
+            blockComputed[block]++;
+            if (upper[point] < bound) return assigned;
+        }
+
+        double best = Double.MAX_VALUE, second = Double.MAX_VALUE;
+        int bestIndex = -1;
+        for (int c = 0; c < centroidCount; c++) {
+            double distance = Distances.squaredEuclidean(values, offset, centroids, c * d, d);
+            if (distance < best) {
+                second = best;
+                best = distance;
+                bestIndex = c;
+            } else if (distance < second) {
+                second = distance;
+            }
+        }
+        blockComputed[block] += centroidCount;
+        upper[point] = Math.sqrt(best);
+        lower[point] = Math.sqrt(second);
+        return bestIndex;
+    }
+}
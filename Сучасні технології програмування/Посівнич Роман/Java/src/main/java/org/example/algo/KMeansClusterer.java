@@ -1,84 +1,541 @@
 package org.example.algo;
 
+import org.example.model.ClusterStatistics;
+import org.example.index.SpatialIndex;
 import org.example.model.DataPoint;
+import org.example.model.Dataset;
+import org.example.model.IterationStatistics;
+import org.example.model.RestartSummary;
+import org.example.model.RunStatistics;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 public class KMeansClusterer {
-    private final List<DataPoint> dataPoints;
+    // Розбиття на блоки залежить лише від n, тому результат не залежить від кількості потоків
+    private static final int MIN_BLOCK_ROWS = 4096;
+    private static final int MAX_BLOCKS = 64;
+
+    final Dataset dataset;
+    private final List<DataPoint> sourcePoints;
     private final int k;
     private final int maxIterations;
-    private final List<DataPoint> centroids = new ArrayList<>();
+    private final int parallelism;
+    private final ExecutorService executor;
+    private CentroidSeeding seeding = CentroidSeeding.kMeansPlusPlus();
+    private long seed = 42;
+    private double[] initialCentroids;
+    double[] centroids = new double[0];
+    int centroidCount;
+    // Зсув кожного центроїда на останньому кроці оновлення
+    double[] shifts = new double[0];
+    // Буфери кроку оновлення, виділяються один раз на запуск
+    private double[] sums = new double[0];
+    private int[] counts = new int[0];
+    private int blockCount;
+    private double[][] blockSums = new double[0][];
+    private int[][] blockCounts = new int[0][];
+    // Відстані до призначених центроїдів рахуються лише у фінальному проході (для статистики)
+    private boolean collectDistances;
+    private double[][] blockSquaredDistances = new double[0][];
+    private double[][] blockDistances = new double[0][];
+    private int[] blockReassigned = new int[0];
+    private long lloydDistanceComputations;
+    private ClusterStatistics statistics;
+    private RunStatistics runStatistics;
+    private KMeansListener listener = KMeansListener.NONE;
+    // Призначення через індекс центроїдів (перебудовується перед кожним проходом)
+    private boolean indexedAssignment;
+    private SpatialIndex centroidIndex;
+    private SpatialIndex.Searcher[] blockSearchers = new SpatialIndex.Searcher[0];
+    // Індекс фінальних центроїдів для predict, будується при першому виклику
+    private volatile SpatialIndex predictIndex;
+    // Багаторазові перезапуски (n_init): найкращий за інерцією
+    private int restarts = 1;
+    private boolean restartPruning;
+    private RestartBoard board;
+    private boolean trackInertia;
+    private double lastInertia = Double.NaN;
+    private boolean abandoned;
+    private RestartSummary restartSummary;
 
     public KMeansClusterer(List<DataPoint> dataPoints, int k, int maxIterations) {
-        this.dataPoints = dataPoints;
+        this(Dataset.fromPoints(dataPoints), dataPoints, k, maxIterations, 1, null);
+    }
+
+    public KMeansClusterer(Dataset dataset, int k, int maxIterations) {
+        this(dataset, null, k, maxIterations, 1, null);
+    }
+
+    // Паралельний режим: власний ForkJoinPool на parallelism потоків на час fit()
+    public KMeansClusterer(Dataset dataset, int k, int maxIterations, int parallelism) {
+        this(dataset, null, k, maxIterations, parallelism, null);
+    }
+
+    // Паралельний режим на зовнішньому виконавці (не закривається кластеризатором)
+    public KMeansClusterer(Dataset dataset, int k, int maxIterations, ExecutorService executor) {
+        this(dataset, null, k, maxIterations, 1, Objects.requireNonNull(executor));
+    }
+
+    private KMeansClusterer(Dataset dataset, List<DataPoint> sourcePoints, int k, int maxIterations,
+                            int parallelism, ExecutorService executor) {
+        if (parallelism < 1) throw new IllegalArgumentException("parallelism must be >= 1");
+        this.dataset = dataset;
+        this.sourcePoints = sourcePoints;
         this.k = k;
         this.maxIterations = maxIterations;
+        this.parallelism = parallelism;
+        this.executor = executor;
     }
 
-    public List<DataPoint> getCentroids() { return centroids; }
+    public Dataset getDataset() { return dataset; }
+
+    public int getK() { return k; }
+
+    public int getMaxIterations() { return maxIterations; }
+
+    // 1 — і для зовнішнього виконавця (паралельність тоді визначає виконавець)
+    public int getParallelism() { return parallelism; }
+
+    public void setSeeding(CentroidSeeding seeding) { this.seeding = Objects.requireNonNull(seeding); }
 
-    private void initializeCentroids() {
-        Random random = new Random();
-        Set<Integer> initialIndices = new HashSet<>();
-        while (initialIndices.size() < k && initialIndices.size() < dataPoints.size()) {
-            initialIndices.add(random.nextInt(dataPoints.size()));
+    // Однакове зерно дає однакові центроїди незалежно від кількості потоків
+    public void setSeed(long seed) { this.seed = seed; }
+
+    public long getSeed() { return seed; }
+
+    // Теплий старт: k x d центроїдів (наприклад, з попереднього запуску або WarmStart.adapt) замість
+    // ініціалізації. З перезапусками теплий старт — перезапуск #0, решта ініціалізуються із зернами
+    // seed + 1, ...; залишається найкращий за інерцією. null повертає звичайну ініціалізацію.
+    public void setInitialCentroids(double[] initialCentroids) {
+        if (initialCentroids != null && initialCentroids.length != k * dataset.dimension()) {
+            throw new IllegalArgumentException("Expected " + k + " x " + dataset.dimension() + " initial centroids");
         }
-        for (int index : initialIndices) {
-            centroids.add(new DataPoint(dataPoints.get(index).getFeatures()));
+        this.initialCentroids = initialCentroids == null ? null : initialCentroids.clone();
+    }
+
+    public void setInitialCentroids(List<DataPoint> initialCentroids) {
+        int d = dataset.dimension();
+        double[] values = new double[initialCentroids.size() * d];
+        for (int c = 0; c < initialCentroids.size(); c++) {
+            System.arraycopy(initialCentroids.get(c).getFeatures(), 0, values, c * d, d);
         }
+        setInitialCentroids(values);
     }
 
-    private void assignPointsToClusters() {
-        for (DataPoint point : dataPoints) {
-            double minDistance = Double.MAX_VALUE;
-            int closestCluster = -1;
-            for (int i = 0; i < centroids.size(); i++) {
-                double distance = point.distanceTo(centroids.get(i));
-                if (distance < minDistance) {
-                    minDistance = distance;
-                    closestCluster = i;
-                }
+    // N незалежних запусків із зернами seed, seed + 1, ... (перший — теплий старт, якщо задано
+    // setInitialCentroids); залишається запуск з найменшою інерцією
+    public void setRestarts(int restarts) {
+        if (restarts < 1) throw new IllegalArgumentException("restarts must be >= 1");
+        this.restarts = restarts;
+    }
+
+    // Евристика (за замовчуванням вимкнена): зупиняти запуски, які за прогнозом спаду інерції вже не
+    // наздоженуть найкращий із завершених. Прогноз не є строгою межею — відкинутий запуск міг би
+    // стати найкращим, а при паралельних перезапусках набір завершених залежить від планування потоків,
+    // тож результат може відрізнятися між викликами. Без зупинки результат детермінований.
+    public void setRestartPruning(boolean restartPruning) { this.restartPruning = restartPruning; }
+
+    // Розкид інерції між перезапусками останнього fit() (null, якщо перезапусків не було)
+    public RestartSummary getRestartSummary() { return restartSummary; }
+
+    // Центроїди у вигляді k x d масиву (row-major)
+    public double[] getCentroidValues() { return centroids; }
+
+    // Статистика останнього проходу призначення (null до fit)
+    public ClusterStatistics getStatistics() { return statistics; }
+
+    // Ітерації, час фаз і кількість відстаней останнього fit() (null до fit)
+    public RunStatistics getRunStatistics() { return runStatistics; }
+
+    // Показники кожної ітерації та підсумок запуску. З іншим слухачем, ніж NONE, після кожного
+    // призначення додатково рахується інерція (ще одна відстань на точку). При перезапусках
+    // окремі запуски не звітують, onFinish отримує підсумок найкращого.
+    public void setListener(KMeansListener listener) { this.listener = Objects.requireNonNull(listener); }
+
+    public KMeansListener getListener() { return listener; }
+
+    // Найближчий центроїд шукається в KD-дереві (мала d) або кульовому дереві замість перебору всіх k.
+    // Вигідно при великих k. Дерево рахує відстані скалярно, тому мітки збігаються з перебором лише
+    // на скалярному шляху (d < VectorKernels.LANES або вимкнений Distances.VECTORIZED); з векторним
+    // ядром інший порядок додавання може змінити вибір між майже рівновіддаленими центроїдами.
+    // HamerlyKMeansClusterer має власне відсікання і цей режим ігнорує.
+    public void setIndexedAssignment(boolean indexedAssignment) { this.indexedAssignment = indexedAssignment; }
+
+    public boolean isIndexedAssignment() { return indexedAssignment; }
+
+    // Кластер для нового рядка (в одиницях даних fit) — найближчий центроїд через індекс.
+    // Потокобезпечний; індекс будується один раз після fit.
+    public int predict(double[] features) {
+        int d = dataset.dimension();
+        if (features.length != d) throw new IllegalArgumentException("Expected " + d + " features");
+        SpatialIndex index = predictIndex;
+        if (index == null) {
+            if (centroidCount == 0) throw new IllegalStateException("KMeansClusterer is not fitted");
+            index = SpatialIndex.build(centroids, centroidCount, d);
+            predictIndex = index;
+        }
+        return index.searcher().nearest(features, 0);
+    }
+
+    public List<DataPoint> getCentroids() {
+        int d = dataset.dimension();
+        List<DataPoint> result = new ArrayList<>(centroidCount);
+        for (int c = 0; c < centroidCount; c++) {
+            result.add(new DataPoint(Arrays.copyOfRange(centroids, c * d, (c + 1) * d)));
+        }
+        return result;
+    }
+
+    private void initializeCentroids(ExecutorService pool) {
+        int n = dataset.size(), d = dataset.dimension();
+        predictIndex = null;
+        centroids = initialCentroids != null ? initialCentroids.clone() : seeding.initialCentroids(dataset, k, seed, pool);
+        centroidCount = d == 0 ? Math.min(k, n) : centroids.length / d;
+        shifts = new double[centroidCount];
+        sums = new double[centroidCount * d];
+        counts = new int[centroidCount];
+        blockCount = Math.max(1, Math.min(MAX_BLOCKS, (n + MIN_BLOCK_ROWS - 1) / MIN_BLOCK_ROWS));
+        blockSums = new double[blockCount][centroidCount * d];
+        blockCounts = new int[blockCount][centroidCount];
+        blockSquaredDistances = new double[blockCount][centroidCount];
+        blockDistances = new double[blockCount][centroidCount];
+        blockReassigned = new int[blockCount];
+        lloydDistanceComputations = 0;
+    }
+
+    // Один прохід: призначення кластерів і накопичення сум/кількостей для кроку оновлення.
+    // Кожен блок рядків має власні акумулятори, які зливаються в фіксованому порядку блоків.
+    private void assignPointsToClusters(ExecutorService pool, List<Callable<Void>> blockTasks) {
+        if (indexedAssignment && supportsIndexedAssignment()) {
+            centroidIndex = SpatialIndex.build(centroids, centroidCount, dataset.dimension());
+            blockSearchers = new SpatialIndex.Searcher[blockCount];
+            for (int b = 0; b < blockCount; b++) blockSearchers[b] = centroidIndex.searcher();
+        }
+        beforeAssignment();
+        if (pool == null || blockCount == 1) {
+            for (int b = 0; b < blockCount; b++) assignBlock(b);
+        } else {
+            invokeAll(pool, blockTasks);
+        }
+        if (centroidIndex != null) {
+            for (SpatialIndex.Searcher searcher : blockSearchers) lloydDistanceComputations += searcher.distanceEvaluations();
+            centroidIndex = null;
+        } else {
+            lloydDistanceComputations += (long) dataset.size() * centroidCount;
+        }
+        Arrays.fill(sums, 0.0);
+        Arrays.fill(counts, 0);
+        for (int b = 0; b < blockCount; b++) {
+            double[] partialSums = blockSums[b];
+            int[] partialCounts = blockCounts[b];
+            for (int i = 0; i < sums.length; i++) sums[i] += partialSums[i];
+            for (int c = 0; c < centroidCount; c++) counts[c] += partialCounts[c];
+        }
+    }
+
+    private void assignBlock(int block) {
+        double[] values = dataset.values();
+        int[] labels = dataset.labels();
+        int n = dataset.size(), d = dataset.dimension();
+        double[] partialSums = blockSums[block];
+        int[] partialCounts = blockCounts[block];
+        Arrays.fill(partialSums, 0.0);
+        Arrays.fill(partialCounts, 0);
+        int from = (int) ((long) block * n / blockCount);
+        int to = (int) ((long) (block + 1) * n / blockCount);
+        int reassigned = 0;
+        for (int p = from; p < to; p++) {
+            int offset = p * d;
+            int closestCluster = assignPoint(p, block);
+            if (labels[p] != closestCluster) reassigned++;
+            labels[p] = closestCluster;
+            Distances.accumulate(partialSums, closestCluster * d, values, offset, d);
+            partialCounts[closestCluster]++;
+        }
+        blockReassigned[block] = reassigned;
+        if (collectDistances) collectBlockDistances(block, from, to);
+    }
+
+    private void collectBlockDistances(int block, int from, int to) {
+        double[] values = dataset.values();
+        int[] labels = dataset.labels();
+        int d = dataset.dimension();
+        double[] squared = blockSquaredDistances[block];
+        double[] plain = blockDistances[block];
+        Arrays.fill(squared, 0.0);
+        Arrays.fill(plain, 0.0);
+        for (int p = from; p < to; p++) {
+            int c = labels[p];
+            double distance = Distances.squaredEuclidean(values, p * d, centroids, c * d, d);
+            squared[c] += distance;
+            plain[c] += Math.sqrt(distance);
+        }
+    }
+
+    // Статистика з акумуляторів фінального проходу, без повторного обходу точок
+    private ClusterStatistics buildStatistics() {
+        int d = dataset.dimension();
+        double[] withinSquares = new double[centroidCount];
+        double[] distanceSums = new double[centroidCount];
+        for (int b = 0; b < blockCount; b++) {
+            for (int c = 0; c < centroidCount; c++) {
+                withinSquares[c] += blockSquaredDistances[b][c];
+                distanceSums[c] += blockDistances[b][c];
             }
-            point.setClusterId(closestCluster);
         }
+        double[] globalMean = new double[d];
+        long total = 0;
+        for (int c = 0; c < centroidCount; c++) {
+            for (int j = 0; j < d; j++) globalMean[j] += sums[c * d + j];
+            total += counts[c];
+        }
+        if (total > 0) for (int j = 0; j < d; j++) globalMean[j] /= total;
+        return new ClusterStatistics(centroids.clone(), counts.clone(), d, withinSquares, distanceSums, globalMean);
     }
 
+    // Точки розширення для прискорених варіантів (HamerlyKMeansClusterer)
+    void onCentroidsInitialized() {}
+
+    void beforeAssignment() {}
+
+    int assignPoint(int point, int block) {
+        int d = dataset.dimension();
+        if (centroidIndex != null) return blockSearchers[block].nearest(dataset.values(), point * d);
+        return Distances.nearestCentroid(dataset.values(), point * d, centroids, centroidCount, d);
+    }
+
+    int blockCount() { return blockCount; }
+
+    // false — підклас призначає точки сам і індекс центроїдів не будується
+    boolean supportsIndexedAssignment() { return true; }
+
+    // Обчислені відстані точка-центроїд від початку запуску (у Ллойда — n * k на прохід)
+    long distanceComputations() { return lloydDistanceComputations; }
+
+    private static void invokeAll(ExecutorService pool, List<Callable<Void>> tasks) {
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("K-means interrupted");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("K-means block failed", e.getCause());
+        }
+    }
+
+    // Записує нові центроїди на місці; порожні кластери зберігають попередній центроїд
     private boolean updateCentroids() {
+        int d = dataset.dimension();
         boolean changed = false;
-        for (int i = 0; i < k; i++) {
-            final int clusterIndex = i;
-            List<DataPoint> pointsInCluster = dataPoints.stream()
-                    .filter(p -> p.getClusterId() == clusterIndex)
-                    .collect(Collectors.toList());
-
-            if (pointsInCluster.isEmpty()) continue;
-
-            double[] sumFeatures = new double[dataPoints.get(0).getFeatures().length];
-            for (DataPoint point : pointsInCluster) {
-                for (int j = 0; j < sumFeatures.length; j++) {
-                    sumFeatures[j] += point.getFeatures()[j];
-                }
-            }
-            double[] newFeatures = new double[sumFeatures.length];
-            for (int j = 0; j < sumFeatures.length; j++) {
-                newFeatures[j] = sumFeatures[j] / pointsInCluster.size();
+        for (int c = 0; c < centroidCount; c++) {
+            int count = counts[c];
+            shifts[c] = 0;
+            if (count == 0) continue;
+            int offset = c * d;
+            double shift = 0;
+            for (int j = 0; j < d; j++) {
+                double mean = sums[offset + j] / count;
+                double diff = mean - centroids[offset + j];
+                shift += diff * diff;
+                centroids[offset + j] = mean;
             }
-            DataPoint newCentroid = new DataPoint(newFeatures);
-            if (newCentroid.distanceTo(centroids.get(i)) > 1e-6) changed = true;
-            centroids.get(i).setFeatures(newFeatures);
+            shifts[c] = Math.sqrt(shift);
+            if (shifts[c] > 1e-6) changed = true;
         }
         return changed;
     }
 
-    public List<DataPoint> cluster() {
-        centroids.clear();
-        initializeCentroids();
+    // Кластеризує набір даних і повертає мітки (ті самі, що в dataset.labels())
+    public int[] fit() {
+        if (restarts > 1) return fitRestarts();
+        if (executor != null) return fit(executor);
+        if (parallelism == 1) return fit(null);
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            return fit(pool);
+        }
+    }
+
+    private int[] fit(ExecutorService pool) {
+        long start = System.nanoTime();
+        initializeCentroids(pool);
+        onCentroidsInitialized();
+        boolean observed = listener != KMeansListener.NONE;
+        List<Callable<Void>> blockTasks = new ArrayList<>(blockCount);
+        for (int b = 0; b < blockCount; b++) {
+            final int block = b;
+            blockTasks.add(() -> { assignBlock(block); return null; });
+        }
+        double previousDelta = Double.NaN;
+        long assignNanos = 0, updateNanos = 0;
+        int iterations = 0;
+        boolean converged = false;
         for (int i = 0; i < maxIterations; i++) {
-            assignPointsToClusters();
-            if (!updateCentroids()) break;
+            // Перевірка переривання між ітераціями — скасування фонових запусків (KSweepEngine)
+            if (Thread.currentThread().isInterrupted()) throw new CancellationException("K-means interrupted");
+            collectDistances = trackInertia || observed;
+            long distancesBefore = distanceComputations();
+            long assignStart = System.nanoTime();
+            assignPointsToClusters(pool, blockTasks);
+            long assignEnd = System.nanoTime();
+            double inertia = collectDistances ? passInertia() : Double.NaN;
+            if (trackInertia) {
+                double delta = lastInertia - inertia;
+                lastInertia = inertia;
+                if (board != null && board.hopeless(inertia, delta, previousDelta, maxIterations - i - 1)) {
+                    abandoned = true;
+                    collectDistances = false;
+                    return null;
+                }
+                previousDelta = delta;
+            }
+            boolean changed = updateCentroids();
+            long updateEnd = System.nanoTime();
+            assignNanos += assignEnd - assignStart;
+            updateNanos += updateEnd - assignEnd;
+            iterations = i + 1;
+            if (observed) {
+                listener.onIteration(iterationStatistics(i, inertia, assignEnd - assignStart, updateEnd - assignEnd,
+                        distanceComputations() - distancesBefore));
+            }
+            if (!changed) {
+                converged = true;
+                break;
+            }
+        }
+        collectDistances = true;
+        long finalStart = System.nanoTime();
+        try {
+            assignPointsToClusters(pool, blockTasks);
+        } finally {
+            collectDistances = false;
+        }
+        assignNanos += System.nanoTime() - finalStart;
+        statistics = buildStatistics();
+        lastInertia = statistics.getInertia();
+        runStatistics = new RunStatistics(iterations, converged, lastInertia, assignNanos, updateNanos,
+                distanceComputations(), System.nanoTime() - start);
+        listener.onFinish(runStatistics);
+        return dataset.labels();
+    }
+
+    private IterationStatistics iterationStatistics(int iteration, double inertia, long assignNanos, long updateNanos,
+                                                    long distances) {
+        int reassigned = 0;
+        if (iteration == 0) {
+            reassigned = dataset.size();
+        } else {
+            for (int b = 0; b < blockCount; b++) reassigned += blockReassigned[b];
         }
-        assignPointsToClusters();
-        return dataPoints;
+        double maxShift = 0, totalShift = 0;
+        for (int c = 0; c < centroidCount; c++) {
+            maxShift = Math.max(maxShift, shifts[c]);
+            totalShift += shifts[c];
+        }
+        return new IterationStatistics(iteration, inertia, reassigned, maxShift, totalShift, assignNanos, updateNanos, distances);
+    }
+
+    private double passInertia() {
+        double inertia = 0;
+        for (int b = 0; b < blockCount; b++) {
+            for (int c = 0; c < centroidCount; c++) inertia += blockSquaredDistances[b][c];
+        }
+        return inertia;
+    }
+
+    // Новий запуск на тих самих ознаках (без копіювання), але з власним масивом міток
+    KMeansClusterer createRestart(Dataset view) {
+        return new KMeansClusterer(view, k, maxIterations);
+    }
+
+    private int[] fitRestarts() {
+        int n = dataset.size();
+        RestartBoard sharedBoard = new RestartBoard();
+        List<KMeansClusterer> runs = new ArrayList<>(restarts);
+        List<Callable<Void>> tasks = new ArrayList<>(restarts);
+        for (int r = 0; r < restarts; r++) {
+            KMeansClusterer run = createRestart(dataset.view());
+            run.seeding = seeding;
+            run.seed = seed + r;
+            if (r == 0) run.initialCentroids = initialCentroids;
+            run.trackInertia = restartPruning;
+            run.indexedAssignment = indexedAssignment;
+            run.board = restartPruning ? sharedBoard : null;
+            runs.add(run);
+            tasks.add(() -> {
+                runRestart(run, sharedBoard);
+                return null;
+            });
+        }
+        // Кожен перезапуск однопотоковий; паралельно між собою — лише на виконавці або власному пулі
+        if (executor != null) {
+            invokeAll(executor, tasks);
+        } else if (parallelism > 1) {
+            try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+                invokeAll(pool, tasks);
+            }
+        } else {
+            for (KMeansClusterer run : runs) runRestart(run, sharedBoard);
+        }
+
+        KMeansClusterer best = null;
+        int bestIndex = -1;
+        double[] finalInertias = new double[restarts];
+        int completed = 0;
+        for (int r = 0; r < restarts; r++) {
+            KMeansClusterer run = runs.get(r);
+            if (run.abandoned) continue;
+            finalInertias[completed++] = run.statistics.getInertia();
+            if (best == null || run.statistics.getInertia() < best.statistics.getInertia()) {
+                best = run;
+                bestIndex = r;
+            }
+        }
+        centroids = best.centroids;
+        centroidCount = best.centroidCount;
+        statistics = best.statistics;
+        runStatistics = best.runStatistics;
+        predictIndex = null;
+        lastInertia = statistics.getInertia();
+        System.arraycopy(best.dataset.labels(), 0, dataset.labels(), 0, n);
+        restartSummary = new RestartSummary(Arrays.copyOf(finalInertias, completed), restarts - completed,
+                bestIndex, seed + bestIndex);
+        listener.onFinish(runStatistics);
+        return dataset.labels();
+    }
+
+    private static void runRestart(KMeansClusterer run, RestartBoard board) {
+        if (run.fit() != null) board.offer(run.statistics.getInertia());
+    }
+
+    // Найкраща фінальна інерція серед уже завершених перезапусків (лише для евристики restartPruning)
+    private static final class RestartBoard {
+        private double bestInertia = Double.MAX_VALUE;
+
+        synchronized void offer(double inertia) { bestInertia = Math.min(bestInertia, inertia); }
+
+        synchronized double best() { return bestInertia; }
+
+        // Інерція Ллойда не зростає; якщо спад сповільнюється з коефіцієнтом ratio, залишок спаду
+        // не перевищує delta * ratio / (1 - ratio) (і не більше delta на кожну ітерацію, що лишилась)
+        boolean hopeless(double inertia, double delta, double previousDelta, int remaining) {
+            if (!(delta >= 0) || !(previousDelta > 0)) return false;
+            double best = best();
+            if (inertia <= best) return false;
+            double ratio = delta / previousDelta;
+            double horizon = ratio < 1 ? Math.min(remaining, ratio / (1 - ratio)) : remaining;
+            return inertia - delta * horizon > best;
+        }
+    }
+
+    public List<DataPoint> cluster() {
+        fit();
+        if (sourcePoints == null) return dataset.toPoints();
+        dataset.copyLabelsTo(sourcePoints);
+        return sourcePoints;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,14 @@
+package org.example.algo;
+
+import org.example.model.IterationStatistics;
+import org.example.model.RunStatistics;
+
+// Спостерігач за ходом k-means. Викликається з потоку, що виконує fit(), між ітераціями
+// (не з паралельних блоків). За замовчуванням NONE — тоді інерція по ітераціях не рахується.
+public interface KMeansListener {
+    KMeansListener NONE = new KMeansListener() {};
+
+    default void onIteration(IterationStatistics iteration) {}
+
+    default void onFinish(RunStatistics run) {}
+}
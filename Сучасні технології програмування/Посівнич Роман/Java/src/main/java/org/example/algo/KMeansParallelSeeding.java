@@ -0,0 +1,162 @@
+package org.example.algo;
+
+import org.example.model.Dataset;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+
+// k-means|| (Bahmani et al., 2012): за кілька раундів кожна точка незалежно потрапляє до кандидатів
+// з імовірністю oversampling * D^2 / cost. Раунди паралельні по блоках рядків на пулі кластеризатора
+// (без пулу — у поточному потоці); кандидати зважуються кількістю найближчих точок і зводяться до k
+// зваженим k-means++ з кількома ітераціями Ллойда.
+public class KMeansParallelSeeding implements CentroidSeeding {
+    private static final int BLOCK_ROWS = 4096;
+    private static final int REFINE_ITERATIONS = 10;
+    private static final String NAME = "k-means||";
+
+    private final double oversamplingFactor;
+    private final int rounds;
+
+    public KMeansParallelSeeding() {
+        this(2.0, 5);
+    }
+
+    // oversamplingFactor — очікувана кількість нових кандидатів за раунд, у одиницях k
+    public KMeansParallelSeeding(double oversamplingFactor, int rounds) {
+        if (oversamplingFactor <= 0 || rounds < 1) throw new IllegalArgumentException("Invalid k-means|| parameters");
+        this.oversamplingFactor = oversamplingFactor;
+        this.rounds = rounds;
+    }
+
+    @Override
+    public double[] initialCentroids(Dataset dataset, int k, long seed) {
+        return initialCentroids(dataset, k, seed, null);
+    }
+
+    @Override
+    public double[] initialCentroids(Dataset dataset, int k, long seed, ExecutorService pool) {
+        int n = dataset.size(), d = dataset.dimension();
+        if (n <= k) return new RandomSeeding().initialCentroids(dataset, k, seed);
+        double[] values = dataset.values();
+        int blocks = (n + BLOCK_ROWS - 1) / BLOCK_ROWS;
+
+        int[] candidates = new int[Math.max(16, k)];
+        candidates[0] = new Random(seed).nextInt(n);
+        int candidateCount = 1;
+        double[] minDistances = new double[n];
+        Arrays.fill(minDistances, Double.MAX_VALUE);
+        double cost = updateMinDistances(values, d, n, blocks, candidates, 0, 1, minDistances, pool);
+
+        double expected = oversamplingFactor * k;
+        byte[] selected = new byte[n];
+        for (int round = 0; round < rounds && cost > 0; round++) {
+            final double roundCost = cost;
+            final long roundSeed = seed + (round + 1) * 0x9E3779B97F4A7C15L;
+            BlockTasks.run(pool, blocks, b -> {
+                for (int p = b * BLOCK_ROWS, end = Math.min(n, p + BLOCK_ROWS); p < end; p++) {
+                    selected[p] = uniform(roundSeed, p) < expected * minDistances[p] / roundCost ? (byte) 1 : 0;
+                }
+            }, NAME);
+            int from = candidateCount;
+            for (int p = 0; p < n; p++) {
+                if (selected[p] == 0) continue;
+                if (candidateCount == candidates.length) candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                candidates[candidateCount++] = p;
+            }
+            if (candidateCount == from) continue;
+            cost = updateMinDistances(values, d, n, blocks, candidates, from, candidateCount, minDistances, pool);
+        }
+        if (candidateCount <= k) return new KMeansPlusPlusSeeding().initialCentroids(dataset, k, seed);
+
+        double[] candidateValues = new double[candidateCount * d];
+        for (int c = 0; c < candidateCount; c++) {
+            System.arraycopy(values, candidates[c] * d, candidateValues, c * d, d);
+        }
+        double[] weights = candidateWeights(values, d, n, blocks, candidateValues, candidateCount, pool);
+        return reduce(candidateValues, weights, candidateCount, d, k, new Random(seed));
+    }
+
+    // Оновлює мінімальні відстані новими кандидатами [from, to); повертає сумарну вартість
+    private static double updateMinDistances(double[] values, int d, int n, int blocks, int[] candidates,
+                                             int from, int to, double[] minDistances, ExecutorService pool) {
+        double[] blockCosts = new double[blocks];
+        BlockTasks.run(pool, blocks, b -> {
+            double blockCost = 0;
+            for (int p = b * BLOCK_ROWS, end = Math.min(n, p + BLOCK_ROWS); p < end; p++) {
+                double best = minDistances[p];
+                for (int c = from; c < to; c++) {
+                    best = Math.min(best, Distances.squaredEuclidean(values, p * d, values, candidates[c] * d, d));
+                }
+                minDistances[p] = best;
+                blockCost += best;
+            }
+            blockCosts[b] = blockCost;
+        }, NAME);
+        double cost = 0;
+        for (double blockCost : blockCosts) cost += blockCost;
+        return cost;
+    }
+
+    // Вага кандидата — кількість точок, для яких він найближчий
+    private static double[] candidateWeights(double[] values, int d, int n, int blocks,
+                                             double[] candidateValues, int candidateCount, ExecutorService pool) {
+        long[][] blockWeights = new long[blocks][];
+        BlockTasks.run(pool, blocks, b -> {
+            long[] local = new long[candidateCount];
+            for (int p = b * BLOCK_ROWS, end = Math.min(n, p + BLOCK_ROWS); p < end; p++) {
+                local[Distances.nearestCentroid(values, p * d, candidateValues, candidateCount, d)]++;
+            }
+            blockWeights[b] = local;
+        }, NAME);
+        double[] weights = new double[candidateCount];
+        for (long[] local : blockWeights) {
+            for (int c = 0; c < candidateCount; c++) weights[c] += local[c];
+        }
+        return weights;
+    }
+
+    // Зважений k-means++ і кілька ітерацій зваженого Ллойда над кандидатами
+    private static double[] reduce(double[] points, double[] weights, int count, int d, int k, Random random) {
+        double[] centroids = new double[k * d];
+        double[] minDistances = new double[count];
+        double[] scores = new double[count];
+        Arrays.fill(minDistances, Double.MAX_VALUE);
+        int chosen = KMeansPlusPlusSeeding.sample(weights, Arrays.stream(weights).sum(), random.nextDouble());
+        for (int c = 0; c < k; c++) {
+            System.arraycopy(points, chosen * d, centroids, c * d, d);
+            double total = 0;
+            for (int p = 0; p < count; p++) {
+                minDistances[p] = Math.min(minDistances[p], Distances.squaredEuclidean(points, p * d, centroids, c * d, d));
+                scores[p] = weights[p] * minDistances[p];
+                total += scores[p];
+            }
+            if (c + 1 < k) chosen = total > 0 ? KMeansPlusPlusSeeding.sample(scores, total, random.nextDouble()) : random.nextInt(count);
+        }
+
+        double[] sums = new double[k * d];
+        double[] clusterWeights = new double[k];
+        for (int iteration = 0; iteration < REFINE_ITERATIONS; iteration++) {
+            Arrays.fill(sums, 0.0);
+            Arrays.fill(clusterWeights, 0.0);
+            for (int p = 0; p < count; p++) {
+                int c = Distances.nearestCentroid(points, p * d, centroids, k, d);
+                clusterWeights[c] += weights[p];
+                for (int j = 0; j < d; j++) sums[c * d + j] += weights[p] * points[p * d + j];
+            }
+            for (int c = 0; c < k; c++) {
+                if (clusterWeights[c] == 0) continue;
+                for (int j = 0; j < d; j++) centroids[c * d + j] = sums[c * d + j] / clusterWeights[c];
+            }
+        }
+        return centroids;
+    }
+
+    // Детермінована рівномірна величина для пари (зерно, рядок), не залежить від порядку потоків (SplitMix64)
+    private static double uniform(long seed, long index) {
+        long z = seed + index * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z ^= z >>> 31;
+        return (z >>> 11) * 0x1.0p-53;
+    }
+}
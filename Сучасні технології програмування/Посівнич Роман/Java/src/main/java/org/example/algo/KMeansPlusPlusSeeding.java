@@ -0,0 +1,54 @@
+package org.example.algo;
+
+import org.example.model.Dataset;
+import java.util.Random;
+
+// k-means++ (Arthur & Vassilvitskii, 2007): кожен наступний центроїд обирається з імовірністю,
+// пропорційною квадрату відстані до найближчого вже обраного
+public class KMeansPlusPlusSeeding implements CentroidSeeding {
+    @Override
+    public double[] initialCentroids(Dataset dataset, int k, long seed) {
+        int n = dataset.size(), d = dataset.dimension();
+        int count = Math.min(k, n);
+        double[] centroids = new double[count * d];
+        if (count == 0) return centroids;
+        double[] values = dataset.values();
+        Random random = new Random(seed);
+
+        double[] minDistances = new double[n];
+        int first = random.nextInt(n);
+        System.arraycopy(values, first * d, centroids, 0, d);
+        double total = updateMinDistances(values, n, d, centroids, 0, minDistances, true);
+
+        for (int c = 1; c < count; c++) {
+            int chosen = total > 0 ? sample(minDistances, total, random.nextDouble()) : random.nextInt(n);
+            System.arraycopy(values, chosen * d, centroids, c * d, d);
+            total = updateMinDistances(values, n, d, centroids, c * d, minDistances, false);
+        }
+        return centroids;
+    }
+
+    // Індекс, для якого накопичена сума ваг перевищує u * total
+    static int sample(double[] weights, double total, double u) {
+        double target = u * total, cumulative = 0;
+        int last = -1;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] <= 0) continue;
+            cumulative += weights[i];
+            last = i;
+            if (cumulative > target) return i;
+        }
+        return last;
+    }
+
+    private static double updateMinDistances(double[] values, int n, int d, double[] centroids, int centroidOffset,
+                                             double[] minDistances, boolean first) {
+        double total = 0;
+        for (int p = 0; p < n; p++) {
+            double distance = Distances.squaredEuclidean(values, p * d, centroids, centroidOffset, d);
+            if (first || distance < minDistances[p]) minDistances[p] = distance;
+            total += minDistances[p];
+        }
+        return total;
+    }
+}
@@ -0,0 +1,169 @@
+package org.example.algo;
+
+import org.example.model.ClusterStatistics;
+import org.example.model.Dataset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Паралельний перебір k: кожне значення k кластеризується окремим завданням на фоновому виконавці,
+// результат передається слухачеві одразу після готовності (у потоці виконавця, не в EDT)
+public class KSweepEngine implements AutoCloseable {
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private int maxIterations = 100;
+    private long seed = 42;
+    private int restarts = 1;
+    private int exactSilhouetteLimit = 20_000;
+    private int silhouetteSample = 2_000;
+
+    public interface Listener {
+        void onResult(Result result);
+
+        default void onComplete() {}
+
+        default void onError(int k, Throwable error) {}
+    }
+
+    public static class Result {
+        private final int k;
+        private final Dataset dataset;
+        private final KMeansClusterer clusterer;
+        private final double silhouette;
+        private final double calinskiHarabasz;
+
+        Result(int k, Dataset dataset, KMeansClusterer clusterer, double silhouette, double calinskiHarabasz) {
+            this.k = k;
+            this.dataset = dataset;
+            this.clusterer = clusterer;
+            this.silhouette = silhouette;
+            this.calinskiHarabasz = calinskiHarabasz;
+        }
+
+        public int getK() { return k; }
+        public Dataset getDataset() { return dataset; }
+        public int[] getLabels() { return dataset.labels(); }
+        public KMeansClusterer getClusterer() { return clusterer; }
+        public ClusterStatistics getStatistics() { return clusterer.getStatistics(); }
+        public double getSilhouette() { return silhouette; }
+        public double getCalinskiHarabasz() { return calinskiHarabasz; }
+    }
+
+    // Запущений перебір; cancel() перериває незавершені k, їхні результати вже не надходять
+    public static class Sweep {
+        private final List<Future<?>> futures = new ArrayList<>();
+        private volatile boolean cancelled;
+
+        public void cancel() {
+            cancelled = true;
+            for (Future<?> future : futures) future.cancel(true);
+        }
+
+        public boolean isCancelled() { return cancelled; }
+    }
+
+    public KSweepEngine() {
+        this(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "k-sweep");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    public KSweepEngine(ExecutorService executor) {
+        this(executor, false);
+    }
+
+    private KSweepEngine(ExecutorService executor, boolean ownsExecutor) {
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    public void setMaxIterations(int maxIterations) { this.maxIterations = maxIterations; }
+
+    public void setSeed(long seed) { this.seed = seed; }
+
+    // Кількість перезапусків k-means для кожного k (KMeansClusterer.setRestarts)
+    public void setRestarts(int restarts) {
+        if (restarts < 1) throw new IllegalArgumentException("restarts must be >= 1");
+        this.restarts = restarts;
+    }
+
+    // Понад limit точок силует оцінюється за вибіркою з sample точок
+    public void setSilhouetteSampling(int limit, int sample) {
+        if (sample < 1) throw new IllegalArgumentException("sample must be >= 1");
+        this.exactSilhouetteLimit = limit;
+        this.silhouetteSample = sample;
+    }
+
+    public Sweep start(Dataset dataset, int minK, int maxK, Listener listener) {
+        return start(dataset, minK, maxK, Map.of(), listener);
+    }
+
+    // warmStarts — центроїди попереднього перебору за k: теплий старт як перезапуск #0 поряд з іншими
+    // (див. KMeansClusterer.setInitialCentroids)
+    public Sweep start(Dataset dataset, int minK, int maxK, Map<Integer, double[]> warmStarts, Listener listener) {
+        Sweep sweep = new Sweep();
+        AtomicInteger remaining = new AtomicInteger(maxK - minK + 1);
+        for (int k = minK; k <= maxK; k++) {
+            final int currentK = k;
+            sweep.futures.add(executor.submit(() -> {
+                try {
+                    Result result = run(dataset, currentK, warmStart(dataset, currentK, warmStarts), sweep);
+                    if (!sweep.isCancelled()) listener.onResult(result);
+                } catch (CancellationException e) {
+                    // перебір скасовано
+                } catch (RuntimeException e) {
+                    if (!sweep.isCancelled()) listener.onError(currentK, e);
+                } finally {
+                    if (remaining.decrementAndGet() == 0 && !sweep.isCancelled()) listener.onComplete();
+                }
+            }));
+        }
+        return sweep;
+    }
+
+    // Власні центроїди k, якщо є; інакше центроїди найближчого k (за рівності — меншого), розщеплені або
+    // злиті до k (WarmStart.adapt). null — теплого старту немає
+    static double[] warmStart(Dataset dataset, int k, Map<Integer, double[]> warmStarts) {
+        int d = dataset.dimension();
+        double[] own = warmStarts.get(k);
+        if (own != null && own.length == k * d) return own;
+        int nearest = -1;
+        for (Map.Entry<Integer, double[]> entry : warmStarts.entrySet()) {
+            int other = entry.getKey();
+            if (other < 1 || entry.getValue().length != other * d) continue;
+            int distance = Math.abs(other - k), best = Math.abs(nearest - k);
+            if (nearest < 0 || distance < best || (distance == best && other < nearest)) nearest = other;
+        }
+        return nearest < 0 ? null : WarmStart.adapt(warmStarts.get(nearest), dataset, k);
+    }
+
+    private Result run(Dataset source, int k, double[] warmStart, Sweep sweep) {
+        // Ознаки спільні для всіх k (лише читаються), мітки — власні для кожного запуску
+        Dataset dataset = source.view();
+        KMeansClusterer clusterer = new KMeansClusterer(dataset, k, maxIterations);
+        clusterer.setSeed(seed);
+        clusterer.setRestarts(restarts);
+        if (warmStart != null && warmStart.length == k * dataset.dimension()) clusterer.setInitialCentroids(warmStart);
+        clusterer.fit();
+        if (sweep.isCancelled()) throw new CancellationException();
+        // Силует — з тією ж паралельністю, що й k-means (у потоці завдання), тож Sweep.cancel() зупиняє і його
+        SilhouetteCalculator silhouetteCalculator = new SilhouetteCalculator(clusterer.getParallelism());
+        double silhouette = dataset.size() <= exactSilhouetteLimit
+                ? silhouetteCalculator.calculateOverallSilhouette(dataset)
+                : silhouetteCalculator.estimateSilhouette(dataset, silhouetteSample, seed).getMean();
+        double ch = new CalinskiHarabaszCalculator().calculateCH(clusterer.getStatistics());
+        return new Result(k, dataset, clusterer, silhouette, ch);
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) executor.shutdownNow();
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.algo;
+
+// Крок навчання для mini-batch та онлайн k-means: c <- c + rate * (x - c)
+@FunctionalInterface
+public interface LearningRateSchedule {
+    // clusterCount — скільки точок центроїд уже отримав (включно з поточною), step — номер пакета
+    double rate(long clusterCount, long step);
+
+    // Класичний варіант Sculley: 1 / кількість точок кластера (центроїд = середнє побачених точок)
+    static LearningRateSchedule perCenter() {
+        return (clusterCount, step) -> 1.0 / clusterCount;
+    }
+
+    static LearningRateSchedule constant(double rate) {
+        return (clusterCount, step) -> rate;
+    }
+
+    static LearningRateSchedule inverseTime(double rate0, double decay) {
+        return (clusterCount, step) -> rate0 / (1 + decay * step);
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.algo;
+
+import org.example.model.IterationStatistics;
+import org.example.model.RunStatistics;
+import java.util.Objects;
+import java.util.function.ObjDoubleConsumer;
+
+// Передає показники k-means у довільну систему метрик як пари "ім'я, значення"
+// (наприклад, gauge/counter реєстру або рядки логу): prefix.iteration.inertia, prefix.run.iterations, ...
+public class MetricsKMeansListener implements KMeansListener {
+    private final String prefix;
+    private final ObjDoubleConsumer<String> sink;
+
+    public MetricsKMeansListener(String prefix, ObjDoubleConsumer<String> sink) {
+        this.prefix = prefix.isEmpty() || prefix.endsWith(".") ? prefix : prefix + ".";
+        this.sink = Objects.requireNonNull(sink);
+    }
+
+    @Override
+    public void onIteration(IterationStatistics iteration) {
+        sink.accept(prefix + "iteration.index", iteration.getIteration());
+        sink.accept(prefix + "iteration.inertia", iteration.getInertia());
+        sink.accept(prefix + "iteration.reassigned", iteration.getReassigned());
+        sink.accept(prefix + "iteration.shift.max", iteration.getMaxShift());
+        sink.accept(prefix + "iteration.shift.total", iteration.getTotalShift());
+        sink.accept(prefix + "iteration.assign.seconds", iteration.getAssignNanos() / 1e9);
+        sink.accept(prefix + "iteration.update.seconds", iteration.getUpdateNanos() / 1e9);
+        sink.accept(prefix + "iteration.distances", iteration.getDistanceEvaluations());
+    }
+
+    @Override
+    public void onFinish(RunStatistics run) {
+        sink.accept(prefix + "run.iterations", run.getIterations());
+        sink.accept(prefix + "run.converged", run.isConverged() ? 1 : 0);
+        sink.accept(prefix + "run.inertia", run.getInertia());
+        sink.accept(prefix + "run.assign.seconds", run.getAssignNanos() / 1e9);
+        sink.accept(prefix + "run.update.seconds", run.getUpdateNanos() / 1e9);
+        sink.accept(prefix + "run.seconds", run.getTotalNanos() / 1e9);
+        sink.accept(prefix + "run.distances", run.getDistanceEvaluations());
+    }
+}
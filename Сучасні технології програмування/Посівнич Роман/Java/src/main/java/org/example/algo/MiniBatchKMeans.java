@@ -0,0 +1,171 @@
+package org.example.algo;
+
+import org.example.model.ClusterResult;
+import org.example.model.DataPoint;
+import org.example.model.Dataset;
+import org.example.model.RowSource;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+// Mini-batch k-means (Sculley, 2010): центроїди оновлюються по невеликих пакетах рядків,
+// тож повний прохід по всіх даних потрібен лише для фінального призначення міток (необов'язково).
+public class MiniBatchKMeans {
+    // Без обмеження: потік читається до кінця
+    public static final int UNLIMITED = 0;
+    // Кількість випадкових пакетів для fit(Dataset), якщо обмеження не задано
+    public static final int DEFAULT_SAMPLED_BATCHES = 100;
+    private final int k;
+    private final int batchSize;
+    private final LearningRateSchedule schedule;
+    private CentroidSeeding seeding = CentroidSeeding.kMeansPlusPlus();
+    private int maxBatches = UNLIMITED;
+    private long seed = 42;
+
+    private boolean initialized;
+    private int dimension;
+    private double[] centroids = new double[0];
+    private int centroidCount;
+    private long[] clusterCounts = new long[0];
+    private long step;
+    private int[] batchLabels = new int[0];
+
+    public MiniBatchKMeans(int k, int batchSize) {
+        this(k, batchSize, LearningRateSchedule.perCenter());
+    }
+
+    public MiniBatchKMeans(int k, int batchSize, LearningRateSchedule schedule) {
+        if (k < 1 || batchSize < 1) throw new IllegalArgumentException("k and batchSize must be positive");
+        this.k = k;
+        this.batchSize = batchSize;
+        this.schedule = schedule;
+    }
+
+    // Обмеження кількості пакетів; UNLIMITED — fit(RowSource) читає потік до кінця, а fit(Dataset)
+    // бере DEFAULT_SAMPLED_BATCHES випадкових вибірок
+    public void setMaxBatches(int maxBatches) {
+        if (maxBatches < 0) throw new IllegalArgumentException("maxBatches must be >= 0 (UNLIMITED)");
+        this.maxBatches = maxBatches;
+    }
+
+    public int getMaxBatches() { return maxBatches; }
+
+    public void setSeed(long seed) { this.seed = seed; }
+
+    // Застосовується до першого пакета, якщо в ньому щонайменше k рядків
+    public void setSeeding(CentroidSeeding seeding) { this.seeding = seeding; }
+
+    public double[] getCentroidValues() { return centroids; }
+
+    public int getCentroidCount() { return centroidCount; }
+
+    public List<DataPoint> getCentroids() {
+        List<DataPoint> result = new ArrayList<>(centroidCount);
+        for (int c = 0; c < centroidCount; c++) {
+            result.add(new DataPoint(Arrays.copyOfRange(centroids, c * dimension, (c + 1) * dimension)));
+        }
+        return result;
+    }
+
+    // Навчання на потоці: пакети читаються послідовно до кінця джерела (або до maxBatches, якщо задано —
+    // тоді модель бачить лише перші maxBatches * batchSize рядків). Рядки джерела мають бути перемішані,
+    // інакше перші пакети зміщують центроїди.
+    public void fit(RowSource source) throws IOException {
+        reset(source.dimension());
+        double[] buffer = new double[batchSize * dimension];
+        for (long b = 0; maxBatches == UNLIMITED || b < maxBatches; b++) {
+            int rows = source.read(buffer, batchSize);
+            if (rows <= 0) break;
+            partialFit(buffer, rows);
+        }
+    }
+
+    // Навчання на наборі в пам'яті: кожен пакет — випадкова вибірка рядків із фіксованим зерном
+    public void fit(Dataset dataset) {
+        reset(dataset.dimension());
+        if (dataset.size() == 0) return;
+        Random random = new Random(seed);
+        double[] values = dataset.values();
+        double[] buffer = new double[batchSize * dimension];
+        int batches = maxBatches == UNLIMITED ? DEFAULT_SAMPLED_BATCHES : maxBatches;
+        for (int b = 0; b < batches; b++) {
+            for (int r = 0; r < batchSize; r++) {
+                System.arraycopy(values, random.nextInt(dataset.size()) * dimension, buffer, r * dimension, dimension);
+            }
+            partialFit(buffer, batchSize);
+        }
+    }
+
+    // Один крок (після fit або reset): спершу всі рядки пакета призначаються поточним центроїдам,
+    // потім центроїди зсуваються з кроком schedule
+    public void partialFit(double[] batch, int rows) {
+        if (!initialized) throw new IllegalStateException("call fit or reset(dimension) before partialFit");
+        int start = 0;
+        if (centroidCount < k) start = seedCentroids(batch, rows);
+        if (centroidCount == 0) return;
+        step++;
+        if (batchLabels.length < rows) batchLabels = new int[rows];
+        for (int r = start; r < rows; r++) {
+            batchLabels[r] = Distances.nearestCentroid(batch, r * dimension, centroids, centroidCount, dimension);
+        }
+        for (int r = start; r < rows; r++) {
+            int c = batchLabels[r];
+            double rate = schedule.rate(++clusterCounts[c], step);
+            int offset = c * dimension, rowOffset = r * dimension;
+            for (int j = 0; j < dimension; j++) {
+                centroids[offset + j] += rate * (batch[rowOffset + j] - centroids[offset + j]);
+            }
+        }
+    }
+
+    // Початкові центроїди з першого пакета (інакше — перші рядки потоку); повертає кількість
+    // рядків, які не треба повторно навчати
+    private int seedCentroids(double[] batch, int rows) {
+        if (centroidCount == 0 && rows >= k) {
+            Dataset first = new Dataset(Arrays.copyOf(batch, rows * dimension), rows, dimension);
+            double[] initial = seeding.initialCentroids(first, k, seed);
+            System.arraycopy(initial, 0, centroids, 0, initial.length);
+            centroidCount = k;
+            Arrays.fill(clusterCounts, 1);
+            return 0;
+        }
+        int used = 0;
+        while (centroidCount < k && used < rows) {
+            System.arraycopy(batch, used * dimension, centroids, centroidCount * dimension, dimension);
+            clusterCounts[centroidCount++] = 1;
+            used++;
+        }
+        return used;
+    }
+
+    public int predict(double[] row) {
+        return Distances.nearestCentroid(row, 0, centroids, centroidCount, dimension);
+    }
+
+    // Фінальний повний прохід: записує мітку кожного рядка в dataset.labels()
+    public int[] assign(Dataset dataset) {
+        double[] values = dataset.values();
+        int[] labels = dataset.labels();
+        IntStream.range(0, dataset.size()).parallel().forEach(p ->
+                labels[p] = Distances.nearestCentroid(values, p * dimension, centroids, centroidCount, dimension));
+        return labels;
+    }
+
+    public ClusterResult toClusterResult(Dataset dataset) {
+        return new ClusterResult(dataset, assign(dataset), getCentroids());
+    }
+
+    // Скидає модель перед ручною подачею пакетів через partialFit
+    public void reset(int dimension) {
+        if (dimension < 1) throw new IllegalArgumentException("dimension must be >= 1");
+        initialized = true;
+        this.dimension = dimension;
+        centroids = new double[k * dimension];
+        clusterCounts = new long[k];
+        centroidCount = 0;
+        step = 0;
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.algo;
+
+import org.example.model.Dataset;
+import org.example.model.FeatureSummary;
+import java.util.stream.IntStream;
+
+// Нормалізація ознак x' = (x - offset) / scale. Статистики збираються за один паралельний прохід
+// (FeatureSummary по блоках, злиття в порядку блоків — результат не залежить від кількості потоків),
+// перетворення виконується на місці. Параметри зберігаються, тож нові дані й центроїди
+// проєктуються тим самим способом (transform / inverseTransform).
+public class Normalizer {
+    private static final int BLOCK_ROWS = 4096;
+
+    public enum Mode {
+        MIN_MAX,   // у [0, 1]
+        Z_SCORE,   // середнє 0, стандартне відхилення 1
+        ROBUST     // медіана 0, міжквартильний розмах 1 (стійко до викидів)
+    }
+
+    private final Mode mode;
+    private double[] offsets;
+    private double[] scales;
+
+    public Normalizer(Mode mode) {
+        this.mode = mode;
+    }
+
+    // Раніше підібрані параметри (наприклад, збережені разом із моделлю)
+    public Normalizer(Mode mode, double[] offsets, double[] scales) {
+        if (offsets.length != scales.length) throw new IllegalArgumentException("offsets and scales differ in length");
+        this.mode = mode;
+        this.offsets = offsets.clone();
+        this.scales = scales.clone();
+    }
+
+    public Mode getMode() { return mode; }
+    public boolean isFitted() { return offsets != null; }
+    public double[] getOffsets() { return offsets.clone(); }
+    public double[] getScales() { return scales.clone(); }
+
+    public static FeatureSummary summarize(Dataset dataset, boolean quantiles) {
+        int n = dataset.size(), d = dataset.dimension();
+        double[] values = dataset.values();
+        int blocks = Math.max(1, (n + BLOCK_ROWS - 1) / BLOCK_ROWS);
+        FeatureSummary[] partial = new FeatureSummary[blocks];
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            FeatureSummary summary = new FeatureSummary(d, quantiles);
+            for (int p = b * BLOCK_ROWS, end = Math.min(n, p + BLOCK_ROWS); p < end; p++) summary.add(values, p * d);
+            partial[b] = summary;
+        });
+        FeatureSummary total = partial[0];
+        for (int b = 1; b < blocks; b++) total.merge(partial[b]);
+        return total;
+    }
+
+    // Стовпець з нульовим розкидом (константа) отримує scale = 1, тобто просто зсувається
+    public Normalizer fit(Dataset dataset) {
+        int d = dataset.dimension();
+        FeatureSummary summary = summarize(dataset, mode == Mode.ROBUST);
+        offsets = new double[d];
+        scales = new double[d];
+        for (int j = 0; j < d; j++) {
+            double offset, scale;
+            switch (mode) {
+                case MIN_MAX -> {
+                    offset = summary.getMin(j);
+                    scale = summary.getMax(j) - summary.getMin(j);
+                }
+                case Z_SCORE -> {
+                    offset = summary.getMean(j);
+                    scale = summary.getStandardDeviation(j);
+                }
+                default -> {
+                    offset = summary.getQuantile(j, 0.5);
+                    scale = summary.getQuantile(j, 0.75) - summary.getQuantile(j, 0.25);
+                }
+            }
+            offsets[j] = Double.isFinite(offset) ? offset : 0.0;
+            scales[j] = scale > 0 && Double.isFinite(scale) ? scale : 1.0;
+        }
+        return this;
+    }
+
+    public void transform(Dataset dataset) {
+        checkDimension(dataset.dimension());
+        int n = dataset.size(), d = dataset.dimension();
+        double[] values = dataset.values();
+        int blocks = (n + BLOCK_ROWS - 1) / BLOCK_ROWS;
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            int from = b * BLOCK_ROWS * d, to = Math.min(n, (b + 1) * BLOCK_ROWS) * d;
+            transform(values, from, to);
+        });
+    }
+
+    public Dataset fitTransform(Dataset dataset) {
+        fit(dataset).transform(dataset);
+        return dataset;
+    }
+
+    // Рядки row-major (один рядок або кілька) — на місці
+    public double[] transform(double[] rows) {
+        checkRows(rows.length);
+        transform(rows, 0, rows.length);
+        return rows;
+    }
+
+    // Назад до вихідних одиниць (наприклад, центроїди для відображення) — на місці
+    public double[] inverseTransform(double[] rows) {
+        checkRows(rows.length);
+        int d = offsets.length;
+        for (int i = 0; i < rows.length; i++) rows[i] = rows[i] * scales[i % d] + offsets[i % d];
+        return rows;
+    }
+
+    private void transform(double[] values, int from, int to) {
+        int d = offsets.length;
+        for (int i = from; i < to; i += d) {
+            for (int j = 0; j < d; j++) values[i + j] = (values[i + j] - offsets[j]) / scales[j];
+        }
+    }
+
+    private void checkRows(int length) {
+        checkDimension(offsets == null || offsets.length == 0 || length % offsets.length != 0 ? -1 : offsets.length);
+    }
+
+    private void checkDimension(int dimension) {
+        if (offsets == null) throw new IllegalStateException("Normalizer is not fitted");
+        if (dimension != offsets.length) throw new IllegalArgumentException("expected rows of " + offsets.length + " features");
+    }
+}
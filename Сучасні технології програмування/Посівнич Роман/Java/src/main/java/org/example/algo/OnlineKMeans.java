@@ -0,0 +1,189 @@
+package org.example.algo;
+
+import org.example.model.ClusterResult;
+import org.example.model.DataPoint;
+import org.example.model.Dataset;
+import org.example.model.RowSource;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Онлайн k-means для потоку: точки надходять по одній або мікропакетами, центроїди оновлюються
+// інкрементно із загасанням ваг (вага точки після t наступних точок — decay^t), тож модель стежить
+// за дрейфом даних. Оновлення виконує один записувач (методи synchronized), читачі працюють
+// з незмінним знімком snapshot() без блокувань.
+public class OnlineKMeans {
+    private final int k;
+    private final double decay;
+
+    private int dimension = -1;
+    private double[] centroids = new double[0];
+    private double[] weights;
+    private int centroidCount;
+    private long pointsSeen;
+    private volatile Snapshot snapshot;
+
+    // decay = 1 — звичайне ковзне середнє (без забування); менше значення — швидше забування
+    public OnlineKMeans(int k, double decay) {
+        if (k < 1) throw new IllegalArgumentException("k must be positive");
+        if (!(decay > 0 && decay <= 1)) throw new IllegalArgumentException("decay must be in (0, 1]");
+        this.k = k;
+        this.decay = decay;
+        this.weights = new double[k];
+        this.snapshot = new Snapshot(new double[0], new double[0], 0, 0, 0);
+    }
+
+    // Загасання, за якого вага точки зменшується вдвічі через halfLife наступних точок
+    public static double decayForHalfLife(double halfLife) {
+        if (!(halfLife > 0)) throw new IllegalArgumentException("halfLife must be positive");
+        return Math.pow(0.5, 1.0 / halfLife);
+    }
+
+    public int getK() { return k; }
+    public double getDecay() { return decay; }
+
+    public synchronized void update(DataPoint point) {
+        update(point.getFeatures());
+    }
+
+    public synchronized void update(double[] row) {
+        ensureDimension(row.length);
+        learn(row, 0);
+        publish();
+    }
+
+    // Мікропакет: знімок публікується один раз після всього пакета
+    public synchronized void update(List<DataPoint> points) {
+        for (DataPoint point : points) {
+            ensureDimension(point.getFeatures().length);
+            learn(point.getFeatures(), 0);
+        }
+        if (!points.isEmpty()) publish();
+    }
+
+    // Мікропакет у row-major форматі (як у RowSource.read)
+    public synchronized void update(double[] batch, int rows) {
+        if (rows <= 0) return;
+        if (dimension < 0) throw new IllegalStateException("dimension is unknown, feed a row first");
+        for (int r = 0; r < rows; r++) learn(batch, r * dimension);
+        publish();
+    }
+
+    // Подає джерело до кінця мікропакетами по batchRows рядків; знімок публікується після кожного пакета
+    public void update(RowSource source, int batchRows) throws IOException {
+        synchronized (this) {
+            ensureDimension(source.dimension());
+        }
+        double[] buffer = new double[batchRows * source.dimension()];
+        int rows;
+        while ((rows = source.read(buffer, batchRows)) > 0) update(buffer, rows);
+    }
+
+    // Модель з відомою розмірністю (для update(double[], int) до першої точки)
+    public synchronized void reset(int dimension) {
+        this.dimension = dimension;
+        centroids = new double[k * dimension];
+        Arrays.fill(weights, 0.0);
+        centroidCount = 0;
+        pointsSeen = 0;
+        publish();
+    }
+
+    public Snapshot snapshot() { return snapshot; }
+
+    private void ensureDimension(int length) {
+        if (dimension < 0) reset(length);
+        else if (length != dimension) throw new IllegalArgumentException("expected " + dimension + " features, got " + length);
+    }
+
+    // Поки центроїдів менше k, кожна нова точка (не дублікат наявного центроїда) стає центроїдом;
+    // далі найближчий центроїд зсувається до точки з кроком 1 / (загасла вага кластера + 1)
+    private void learn(double[] row, int offset) {
+        pointsSeen++;
+        for (int c = 0; c < centroidCount; c++) weights[c] *= decay;
+        if (centroidCount < k && !isCentroid(row, offset)) {
+            System.arraycopy(row, offset, centroids, centroidCount * dimension, dimension);
+            weights[centroidCount++] = 1.0;
+            return;
+        }
+        int c = Distances.nearestCentroid(row, offset, centroids, centroidCount, dimension);
+        double weight = weights[c] += 1.0;
+        double rate = 1.0 / weight;
+        int centroidOffset = c * dimension;
+        for (int j = 0; j < dimension; j++) {
+            centroids[centroidOffset + j] += rate * (row[offset + j] - centroids[centroidOffset + j]);
+        }
+    }
+
+    private boolean isCentroid(double[] row, int offset) {
+        for (int c = 0; c < centroidCount; c++) {
+            if (Distances.squaredEuclidean(row, offset, centroids, c * dimension, dimension) == 0) return true;
+        }
+        return false;
+    }
+
+    private void publish() {
+        snapshot = new Snapshot(Arrays.copyOf(centroids, centroidCount * dimension),
+                Arrays.copyOf(weights, centroidCount), centroidCount, Math.max(dimension, 0), pointsSeen);
+    }
+
+    // Незмінний стан моделі на момент публікації; безпечний для читання з будь-якого потоку
+    public static final class Snapshot {
+        private final double[] centroids;
+        private final double[] weights;
+        private final int centroidCount;
+        private final int dimension;
+        private final long pointsSeen;
+
+        private Snapshot(double[] centroids, double[] weights, int centroidCount, int dimension, long pointsSeen) {
+            this.centroids = centroids;
+            this.weights = weights;
+            this.centroidCount = centroidCount;
+            this.dimension = dimension;
+            this.pointsSeen = pointsSeen;
+        }
+
+        public int getCentroidCount() { return centroidCount; }
+        public int getDimension() { return dimension; }
+        public long getPointsSeen() { return pointsSeen; }
+        public double[] getCentroidValues() { return centroids.clone(); }
+
+        // Загасла вага кластера — ефективна кількість "свіжих" точок у ньому
+        public double getWeight(int cluster) { return weights[cluster]; }
+
+        public List<DataPoint> getCentroids() {
+            List<DataPoint> result = new ArrayList<>(centroidCount);
+            for (int c = 0; c < centroidCount; c++) {
+                result.add(new DataPoint(Arrays.copyOfRange(centroids, c * dimension, (c + 1) * dimension)));
+            }
+            return result;
+        }
+
+        // -1, якщо центроїдів ще немає
+        public int predict(double[] row) {
+            if (centroidCount == 0) return -1;
+            if (row.length != dimension) throw new IllegalArgumentException("expected " + dimension + " features, got " + row.length);
+            return Distances.nearestCentroid(row, 0, centroids, centroidCount, dimension);
+        }
+
+        public int predict(DataPoint point) { return predict(point.getFeatures()); }
+
+        // Призначає точкам мітки за цим знімком (вихідні точки не змінюються)
+        public ClusterResult toClusterResult(List<DataPoint> points) {
+            return toClusterResult(Dataset.fromPoints(points));
+        }
+
+        // Мітки — новий масив, ознаки набору лише читаються
+        public ClusterResult toClusterResult(Dataset dataset) {
+            int d = dataset.dimension();
+            if (centroidCount > 0 && d != dimension) throw new IllegalArgumentException("expected " + dimension + " features");
+            int[] labels = new int[dataset.size()];
+            double[] values = dataset.values();
+            for (int p = 0; p < labels.length; p++) {
+                labels[p] = centroidCount == 0 ? -1 : Distances.nearestCentroid(values, p * d, centroids, centroidCount, dimension);
+            }
+            return new ClusterResult(dataset, labels, getCentroids());
+        }
+    }
+}
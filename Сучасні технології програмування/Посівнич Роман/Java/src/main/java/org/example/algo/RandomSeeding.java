@@ -0,0 +1,25 @@
+package org.example.algo;
+
+import org.example.model.Dataset;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+
+// k різних випадкових рядків набору
+public class RandomSeeding implements CentroidSeeding {
+    @Override
+    public double[] initialCentroids(Dataset dataset, int k, long seed) {
+        int n = dataset.size(), d = dataset.dimension();
+        Random random = new Random(seed);
+        Set<Integer> initialIndices = new LinkedHashSet<>();
+        while (initialIndices.size() < k && initialIndices.size() < n) {
+            initialIndices.add(random.nextInt(n));
+        }
+        double[] centroids = new double[initialIndices.size() * d];
+        int c = 0;
+        for (int index : initialIndices) {
+            System.arraycopy(dataset.values(), index * d, centroids, c++ * d, d);
+        }
+        return centroids;
+    }
+}
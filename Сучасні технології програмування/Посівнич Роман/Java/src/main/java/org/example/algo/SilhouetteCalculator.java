@@ -1,38 +1,233 @@
 package org.example.algo;
 
 import org.example.model.DataPoint;
+import org.example.model.Dataset;
+import org.example.model.SilhouetteEstimate;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.IntStream;
 
 public class SilhouetteCalculator {
+    private static final int BLOCK_ROWS = 256;
+    private static final int ROW_TILE = 64;
+    private static final int L1_TILE_BYTES = 32 * 1024;
+    private static final double Z_95 = 1.959963984540054;
+    private static final String NAME = "Silhouette";
+
+    private final int parallelism;
+    private final ExecutorService executor;
+
+    // Потоків стільки, скільки процесорів
+    public SilhouetteCalculator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    // Власний ForkJoinPool на parallelism потоків на час обчислення; 1 — у потоці, що викликав.
+    // Переривання цього потоку зупиняє обчислення між плитками (CancellationException)
+    public SilhouetteCalculator(int parallelism) {
+        if (parallelism < 1) throw new IllegalArgumentException("parallelism must be >= 1");
+        this.parallelism = parallelism;
+        this.executor = null;
+    }
+
+    // Плитки на зовнішньому виконавці (не закривається калькулятором)
+    public SilhouetteCalculator(ExecutorService executor) {
+        this.parallelism = 1;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
     public double calculateOverallSilhouette(List<DataPoint> points) {
         if (points == null || points.size() <= 1) return 0.0;
-        Map<Integer, List<DataPoint>> clusters = points.stream()
-                .collect(Collectors.groupingBy(DataPoint::getClusterId));
-        if (clusters.size() <= 1) return 0.0;
+        return calculateOverallSilhouette(Dataset.fromPoints(points));
+    }
 
-        double totalSilhouette = 0.0;
-        for (DataPoint point : points) {
-            int currentClusterId = point.getClusterId();
-            List<DataPoint> currentCluster = clusters.get(currentClusterId);
-            double a_i = 0.0;
-            if (currentCluster.size() > 1) {
-                double sumDistances = currentCluster.stream()
-                        .filter(other -> other != point)
-                        .mapToDouble(point::distanceTo).sum();
-                a_i = sumDistances / (currentCluster.size() - 1);
+    // Точний силует, O(n^2 * d), без матриці відстаней n x n. Рядки обробляються плитками по ROW_TILE
+    // (паралельно), стовпці — плитками, що вміщуються в кеш L1; для кожного рядка плитки накопичуються
+    // суми відстаней до кожного кластера. Точки з від'ємною міткою (не призначені) не враховуються.
+    public double calculateOverallSilhouette(Dataset dataset) {
+        return BlockTasks.withPool(parallelism, executor, pool -> exactSilhouette(dataset, pool));
+    }
+
+    private static double exactSilhouette(Dataset dataset, ExecutorService pool) {
+        int n = dataset.size(), d = dataset.dimension();
+        int[] clusterSizes = clusterSizes(dataset.labels());
+        int assigned = assignedCount(clusterSizes);
+        if (n <= 1 || nonEmptyCount(clusterSizes) <= 1) return 0.0;
+        double[] values = dataset.values();
+        int[] labels = dataset.labels();
+        int clusterCount = clusterSizes.length;
+        int columnTile = Math.max(ROW_TILE, L1_TILE_BYTES / (Double.BYTES * Math.max(1, d)));
+
+        int rowTiles = (n + ROW_TILE - 1) / ROW_TILE;
+        double[] tileTotals = new double[rowTiles];
+        BlockTasks.run(pool, rowTiles, t -> {
+            int rowFrom = t * ROW_TILE, rowTo = Math.min(n, rowFrom + ROW_TILE);
+            double[] distanceSums = new double[(rowTo - rowFrom) * clusterCount];
+            for (int columnFrom = 0; columnFrom < n; columnFrom += columnTile) {
+                int columnTo = Math.min(n, columnFrom + columnTile);
+                for (int p = rowFrom; p < rowTo; p++) {
+                    if (labels[p] < 0) continue;
+                    int sumOffset = (p - rowFrom) * clusterCount;
+                    for (int q = columnFrom; q < columnTo; q++) {
+                        int label = labels[q];
+                        if (q == p || label < 0) continue;
+                        distanceSums[sumOffset + label] += Distances.euclidean(values, p * d, values, q * d, d);
+                    }
+                }
             }
-            double b_i = Double.MAX_VALUE;
-            for (Map.Entry<Integer, List<DataPoint>> entry : clusters.entrySet()) {
-                if (entry.getKey() != currentClusterId) {
-                    double avgDistance = entry.getValue().stream()
-                            .mapToDouble(point::distanceTo).average().orElse(Double.MAX_VALUE);
-                    b_i = Math.min(b_i, avgDistance);
+            double total = 0;
+            for (int p = rowFrom; p < rowTo; p++) {
+                if (labels[p] < 0) continue;
+                total += silhouetteFromSums(labels[p], distanceSums, (p - rowFrom) * clusterCount, clusterSizes);
+            }
+            tileTotals[t] = total;
+        }, NAME);
+        double totalSilhouette = 0.0;
+        for (double total : tileTotals) totalSilhouette += total;
+        return totalSilhouette / assigned;
+    }
+
+    // Спрощений силует, O(n * k * d): a — відстань до власного центроїда, b — до найближчого чужого
+    public double calculateSimplifiedSilhouette(Dataset dataset, double[] centroids, int k) {
+        return BlockTasks.withPool(parallelism, executor, pool -> simplifiedSilhouette(dataset, centroids, k, pool));
+    }
+
+    private static double simplifiedSilhouette(Dataset dataset, double[] centroids, int k, ExecutorService pool) {
+        int n = dataset.size(), d = dataset.dimension();
+        if (n <= 1 || k <= 1) return 0.0;
+        double[] values = dataset.values();
+        int[] labels = dataset.labels();
+        int blocks = (n + BLOCK_ROWS - 1) / BLOCK_ROWS;
+        double[] blockTotals = new double[blocks];
+        int[] blockCounts = new int[blocks];
+        BlockTasks.run(pool, blocks, b -> {
+            double total = 0;
+            int count = 0;
+            double[] distances = new double[k];
+            for (int p = b * BLOCK_ROWS, end = Math.min(n, p + BLOCK_ROWS); p < end; p++) {
+                int own = labels[p];
+                if (own < 0 || own >= k) continue;
+                Distances.squaredDistances(values, p * d, centroids, k, d, distances);
+                double a_i = distances[own];
+                double b_i = Double.MAX_VALUE;
+                for (int c = 0; c < k; c++) {
+                    if (c != own) b_i = Math.min(b_i, distances[c]);
                 }
+                a_i = Math.sqrt(a_i);
+                b_i = Math.sqrt(b_i);
+                double denominator = Math.max(a_i, b_i);
+                total += denominator > 0 ? (b_i - a_i) / denominator : 0.0;
+                count++;
+            }
+            blockTotals[b] = total;
+            blockCounts[b] = count;
+        }, NAME);
+        double totalSilhouette = 0.0;
+        int counted = 0;
+        for (int b = 0; b < blocks; b++) {
+            totalSilhouette += blockTotals[b];
+            counted += blockCounts[b];
+        }
+        return counted == 0 ? 0.0 : totalSilhouette / counted;
+    }
+
+    // Оцінка за випадковою вибіркою точок, O(sampleSize * n * d), з 95% довірчим інтервалом.
+    // Для кожної точки вибірки силует рахується точно (відносно всіх точок набору).
+    // Якщо у вибірці одна точка з кількох, дисперсію не оцінити — півширина інтервалу NaN.
+    public SilhouetteEstimate estimateSilhouette(Dataset dataset, int sampleSize, long seed) {
+        if (sampleSize < 1) throw new IllegalArgumentException("sampleSize must be >= 1");
+        return BlockTasks.withPool(parallelism, executor, pool -> sampledSilhouette(dataset, sampleSize, seed, pool));
+    }
+
+    private static SilhouetteEstimate sampledSilhouette(Dataset dataset, int sampleSize, long seed, ExecutorService pool) {
+        int n = dataset.size();
+        int[] labels = dataset.labels();
+        int[] clusterSizes = clusterSizes(labels);
+        if (n <= 1 || nonEmptyCount(clusterSizes) <= 1) return new SilhouetteEstimate(0.0, 0.0, 0);
+
+        int[] assignedRows = IntStream.range(0, n).filter(p -> labels[p] >= 0).toArray();
+        int m = Math.min(sampleSize, assignedRows.length);
+        Random random = new Random(seed);
+        // Часткове перемішування Фішера-Єйтса: перші m елементів — вибірка без повторень
+        for (int i = 0; i < m; i++) {
+            int j = i + random.nextInt(assignedRows.length - i);
+            int tmp = assignedRows[i];
+            assignedRows[i] = assignedRows[j];
+            assignedRows[j] = tmp;
+        }
+        double[] scores = new double[m];
+        int blocks = (m + BLOCK_ROWS - 1) / BLOCK_ROWS;
+        // Кожна точка вибірки — повний прохід O(n * d), тож переривання перевіряється після кожної
+        BlockTasks.run(pool, blocks, b -> {
+            double[] distanceSums = new double[clusterSizes.length];
+            for (int i = b * BLOCK_ROWS, end = Math.min(m, i + BLOCK_ROWS); i < end; i++) {
+                scores[i] = pointSilhouette(dataset, clusterSizes, assignedRows[i], distanceSums);
+                BlockTasks.checkInterrupted(NAME);
             }
-            totalSilhouette += (b_i != Double.MAX_VALUE) ? (b_i - a_i) / Math.max(a_i, b_i) : 0.0;
+        }, NAME);
+
+        double mean = 0;
+        for (double score : scores) mean += score;
+        mean /= m;
+        // Вибірка охоплює всі точки — значення точне
+        if (m == assignedRows.length) return new SilhouetteEstimate(mean, 0.0, m);
+        if (m < 2) return new SilhouetteEstimate(mean, Double.NaN, m);
+        double variance = 0;
+        for (double score : scores) variance += (score - mean) * (score - mean);
+        variance /= m - 1;
+        // Поправка на скінченну сукупність: інтервал звужується, коли m наближається до n
+        double correction = (double) (assignedRows.length - m) / (assignedRows.length - 1);
+        double standardError = Math.sqrt(variance / m * correction);
+        return new SilhouetteEstimate(mean, Z_95 * standardError, m);
+    }
+
+    private static double pointSilhouette(Dataset dataset, int[] clusterSizes, int p, double[] distanceSums) {
+        int currentClusterId = dataset.getLabel(p);
+        if (currentClusterId < 0) return 0.0;
+        int n = dataset.size(), d = dataset.dimension();
+        double[] values = dataset.values();
+        int[] labels = dataset.labels();
+        Arrays.fill(distanceSums, 0.0);
+        for (int q = 0; q < n; q++) {
+            if (q == p || labels[q] < 0) continue;
+            distanceSums[labels[q]] += Distances.euclidean(values, p * d, values, q * d, d);
         }
-        return totalSilhouette / points.size();
+        return silhouetteFromSums(currentClusterId, distanceSums, 0, clusterSizes);
+    }
+
+    // s(i) із сум відстаней точки до кожного кластера (distanceSums[offset + c])
+    private static double silhouetteFromSums(int currentClusterId, double[] distanceSums, int offset, int[] clusterSizes) {
+        int currentSize = clusterSizes[currentClusterId];
+        double a_i = currentSize > 1 ? distanceSums[offset + currentClusterId] / (currentSize - 1) : 0.0;
+        double b_i = Double.MAX_VALUE;
+        for (int c = 0; c < clusterSizes.length; c++) {
+            if (c != currentClusterId && clusterSizes[c] > 0) {
+                b_i = Math.min(b_i, distanceSums[offset + c] / clusterSizes[c]);
+            }
+        }
+        return (b_i != Double.MAX_VALUE) ? (b_i - a_i) / Math.max(a_i, b_i) : 0.0;
+    }
+
+    static int[] clusterSizes(int[] labels) {
+        int clusterCount = 0;
+        for (int label : labels) clusterCount = Math.max(clusterCount, label + 1);
+        int[] clusterSizes = new int[clusterCount];
+        for (int label : labels) if (label >= 0) clusterSizes[label]++;
+        return clusterSizes;
+    }
+
+    private static int assignedCount(int[] clusterSizes) {
+        int assigned = 0;
+        for (int size : clusterSizes) assigned += size;
+        return assigned;
+    }
+
+    private static int nonEmptyCount(int[] clusterSizes) {
+        int nonEmpty = 0;
+        for (int size : clusterSizes) if (size > 0) nonEmpty++;
+        return nonEmpty;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package org.example.algo;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// SIMD-ядра на jdk.incubator.vector. Викликаються лише через Distances і лише коли модуль підключено
+// (--add-modules jdk.incubator.vector), інакше цей клас навіть не завантажується.
+// Сума по лініях вектора має інший порядок додавань, ніж скалярний цикл, тож результати можуть
+// відрізнятися в останніх бітах — але однаково для будь-якої кількості потоків.
+final class VectorKernels {
+    private static final VectorSpecies<Double> WIDE = DoubleVector.SPECIES_PREFERRED;
+    // Для коротких рядків на AVX-512 (d від 4 до 7) — 256-бітні вектори. Кожен вид має окремий метод:
+    // JIT компілює векторні операції в інструкції лише тоді, коли вид — константа.
+    private static final VectorSpecies<Double> NARROW = WIDE.length() > 4 ? DoubleVector.SPECIES_256 : WIDE;
+    // Мінімальна довжина рядка, з якої вигідні векторні ядра
+    static final int LANES = NARROW.length();
+
+    private VectorKernels() {}
+
+    static double squaredEuclidean(double[] a, int aOffset, double[] b, int bOffset, int d) {
+        return d >= WIDE.length() ? squaredEuclideanWide(a, aOffset, b, bOffset, d) : squaredEuclideanNarrow(a, aOffset, b, bOffset, d);
+    }
+
+    private static double squaredEuclideanWide(double[] a, int aOffset, double[] b, int bOffset, int d) {
+        DoubleVector acc = DoubleVector.zero(WIDE);
+        int bound = WIDE.loopBound(d);
+        int j = 0;
+        for (; j < bound; j += WIDE.length()) {
+            DoubleVector diff = DoubleVector.fromArray(WIDE, a, aOffset + j).sub(DoubleVector.fromArray(WIDE, b, bOffset + j));
+            acc = diff.fma(diff, acc);
+        }
+        return acc.reduceLanes(VectorOperators.ADD) + squaredTail(a, aOffset, b, bOffset, j, d);
+    }
+
+    private static double squaredEuclideanNarrow(double[] a, int aOffset, double[] b, int bOffset, int d) {
+        DoubleVector acc = DoubleVector.zero(NARROW);
+        int bound = NARROW.loopBound(d);
+        int j = 0;
+        for (; j < bound; j += NARROW.length()) {
+            DoubleVector diff = DoubleVector.fromArray(NARROW, a, aOffset + j).sub(DoubleVector.fromArray(NARROW, b, bOffset + j));
+            acc = diff.fma(diff, acc);
+        }
+        return acc.reduceLanes(VectorOperators.ADD) + squaredTail(a, aOffset, b, bOffset, j, d);
+    }
+
+    private static double squaredTail(double[] a, int aOffset, double[] b, int bOffset, int from, int d) {
+        double sum = 0;
+        for (int j = from; j < d; j++) {
+            double diff = a[aOffset + j] - b[bOffset + j];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    static int nearestCentroid(double[] values, int offset, double[] centroids, int k, int d) {
+        double best = Double.MAX_VALUE;
+        int bestIndex = -1;
+        for (int c = 0; c < k; c++) {
+            double sum = squaredEuclidean(values, offset, centroids, c * d, d);
+            if (sum < best) {
+                best = sum;
+                bestIndex = c;
+            }
+        }
+        return bestIndex;
+    }
+
+    static void squaredDistances(double[] values, int offset, double[] centroids, int k, int d, double[] out) {
+        for (int c = 0; c < k; c++) out[c] = squaredEuclidean(values, offset, centroids, c * d, d);
+    }
+
+    static void accumulate(double[] sums, int sumOffset, double[] values, int offset, int d) {
+        int j = 0;
+        if (d >= WIDE.length()) {
+            for (int bound = WIDE.loopBound(d); j < bound; j += WIDE.length()) {
+                DoubleVector.fromArray(WIDE, sums, sumOffset + j)
+                        .add(DoubleVector.fromArray(WIDE, values, offset + j))
+                        .intoArray(sums, sumOffset + j);
+            }
+        } else {
+            for (int bound = NARROW.loopBound(d); j < bound; j += NARROW.length()) {
+                DoubleVector.fromArray(NARROW, sums, sumOffset + j)
+                        .add(DoubleVector.fromArray(NARROW, values, offset + j))
+                        .intoArray(sums, sumOffset + j);
+            }
+        }
+        for (; j < d; j++) sums[sumOffset + j] += values[offset + j];
+    }
+}
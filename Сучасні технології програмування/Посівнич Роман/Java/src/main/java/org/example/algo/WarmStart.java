@@ -0,0 +1,84 @@
+package org.example.algo;
+
+import org.example.model.Dataset;
+import java.util.Arrays;
+
+// Підготовка центроїдів попереднього запуску для теплого старту з іншим k:
+// більше k — розщеплюється кластер з найбільшою сумою квадратів (його найвіддаленіша точка стає
+// новим центроїдом), менше k — зливаються два найближчі центроїди (зважено за розміром кластерів).
+// Використовується KSweepEngine, коли для k немає власних центроїдів попереднього перебору
+public final class WarmStart {
+    private WarmStart() {}
+
+    // centroids — попередні центроїди (row-major); точки розподіляються між ними заново (найближчий
+    // центроїд), тож мітки dataset не використовуються і не змінюються
+    public static double[] adapt(double[] centroids, Dataset dataset, int newK) {
+        if (newK < 1) throw new IllegalArgumentException("newK must be >= 1");
+        int d = dataset.dimension();
+        int oldK = d == 0 ? 0 : centroids.length / d;
+        if (oldK == 0 || newK == oldK) return Arrays.copyOf(centroids, newK * d);
+
+        double[] values = dataset.values();
+        double[] result = Arrays.copyOf(centroids, Math.max(oldK, newK) * d);
+        long[] counts = new long[Math.max(oldK, newK)];
+        double[] withinSquares = new double[counts.length];
+        int[] farthest = new int[counts.length];
+        double[] farthestDistance = new double[counts.length];
+        Arrays.fill(farthest, -1);
+        for (int p = 0; p < dataset.size(); p++) {
+            int c = Distances.nearestCentroid(values, p * d, centroids, oldK, d);
+            double distance = Distances.squaredEuclidean(values, p * d, centroids, c * d, d);
+            counts[c]++;
+            withinSquares[c] += distance;
+            if (distance > farthestDistance[c]) {
+                farthestDistance[c] = distance;
+                farthest[c] = p;
+            }
+        }
+
+        int k = oldK;
+        while (k < newK) {
+            int split = -1;
+            for (int c = 0; c < k; c++) {
+                if (farthest[c] >= 0 && (split < 0 || withinSquares[c] > withinSquares[split])) split = c;
+            }
+            if (split < 0) {
+                // Розщеплювати нічого (усі точки збігаються з центроїдами) — дублюємо центроїд
+                System.arraycopy(result, 0, result, k * d, d);
+            } else {
+                System.arraycopy(values, farthest[split] * d, result, k * d, d);
+                // Приблизно половина розкиду переходить до нового кластера; повторно той самий кластер не ділимо
+                withinSquares[split] /= 2;
+                farthest[split] = -1;
+                counts[k] = 1;
+            }
+            k++;
+        }
+        while (k > newK) {
+            int bestA = 0, bestB = 1;
+            double best = Double.MAX_VALUE;
+            for (int a = 0; a < k; a++) {
+                for (int b = a + 1; b < k; b++) {
+                    double distance = Distances.squaredEuclidean(result, a * d, result, b * d, d);
+                    if (distance < best) {
+                        best = distance;
+                        bestA = a;
+                        bestB = b;
+                    }
+                }
+            }
+            long total = counts[bestA] + counts[bestB];
+            for (int j = 0; j < d; j++) {
+                result[bestA * d + j] = total == 0
+                        ? (result[bestA * d + j] + result[bestB * d + j]) / 2
+                        : (result[bestA * d + j] * counts[bestA] + result[bestB * d + j] * counts[bestB]) / total;
+            }
+            counts[bestA] = total;
+            // Останній центроїд переноситься на місце видаленого
+            System.arraycopy(result, (k - 1) * d, result, bestB * d, d);
+            counts[bestB] = counts[k - 1];
+            k--;
+        }
+        return Arrays.copyOf(result, newK * d);
+    }
+}
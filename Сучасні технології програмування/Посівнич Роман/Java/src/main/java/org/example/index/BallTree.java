@@ -0,0 +1,129 @@
+package org.example.index;
+
+import java.util.Arrays;
+
+// Кульове дерево: вузол — центр (середнє своїх рядків) і радіус. Поділ — за проєкцією на напрям
+// між двома віддаленими рядками, у медіані. На відміну від KD-дерева, межі не прив'язані до осей,
+// тож відсікання працює і при більших d.
+public final class BallTree extends TreeIndex {
+    // Відносний запас нижньої межі: sqrt і нерівність трикутника рахуються з округленням,
+    // а рядок на рівній відстані з меншим індексом не можна відкидати
+    private static final double BOUND_SLACK = 1e-9;
+
+    private double[] centres;
+    private double[] radii = new double[16];
+
+    public BallTree(double[] values, int rows, int dimension) {
+        this(values, rows, dimension, DEFAULT_LEAF_SIZE);
+    }
+
+    public BallTree(double[] values, int rows, int dimension, int leafSize) {
+        super(values, rows, dimension, leafSize);
+        centres = new double[16 * dimension];
+        if (rows > 0) build(values, new double[rows], 0, rows);
+        reorder(values);
+    }
+
+    @Override
+    void grow(int capacity) {
+        centres = Arrays.copyOf(centres, capacity * dimension);
+        radii = Arrays.copyOf(radii, capacity);
+    }
+
+    private double squaredDistance(double[] values, int row, double[] point, int pointOffset) {
+        double sum = 0;
+        for (int j = 0; j < dimension; j++) {
+            double diff = values[row * dimension + j] - point[pointOffset + j];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    private int build(double[] values, double[] keys, int start, int end) {
+        int node = newNode(start, end);
+        int d = dimension, centre = node * d;
+        for (int i = start; i < end; i++) {
+            for (int j = 0; j < d; j++) centres[centre + j] += values[ids[i] * d + j];
+        }
+        for (int j = 0; j < d; j++) centres[centre + j] /= end - start;
+        int farthest = ids[start];
+        double radius = 0;
+        for (int i = start; i < end; i++) {
+            double distance = squaredDistance(values, ids[i], centres, centre);
+            if (distance > radius) {
+                radius = distance;
+                farthest = ids[i];
+            }
+        }
+        radii[node] = Math.sqrt(radius);
+        if (end - start <= leafSize || radius == 0) return node;
+
+        // Напрям поділу: від найвіддаленішого від центру рядка a до найвіддаленішого від a рядка b
+        int opposite = farthest;
+        double spread = 0;
+        for (int i = start; i < end; i++) {
+            double distance = squaredDistance(values, ids[i], values, farthest * d);
+            if (distance > spread) {
+                spread = distance;
+                opposite = ids[i];
+            }
+        }
+        for (int i = start; i < end; i++) {
+            double projection = 0;
+            for (int j = 0; j < d; j++) {
+                projection += (values[ids[i] * d + j] - values[farthest * d + j]) * (values[opposite * d + j] - values[farthest * d + j]);
+            }
+            keys[ids[i]] = projection;
+        }
+        int middle = (start + end) >>> 1;
+        select(ids, keys, start, end, middle);
+        int left = build(values, keys, start, middle);
+        int right = build(values, keys, middle, end);
+        lefts[node] = left;
+        rights[node] = right;
+        return node;
+    }
+
+    @Override
+    public Searcher searcher() {
+        return new TreeSearcher() {
+            // Нижня межа відстані від запиту до рядків вузла
+            private double lowerBound(int node) {
+                evaluations++;
+                double toCentre = Math.sqrt(squaredDistanceTo(centres, node * dimension));
+                return Math.max(0, toCentre - radii[node] - BOUND_SLACK * (toCentre + radii[node]));
+            }
+
+            private boolean prunable(double bound, double squaredLimit) {
+                return bound * bound > squaredLimit;
+            }
+
+            @Override
+            void searchNearest(int node) {
+                if (lefts[node] < 0) {
+                    scanLeafNearest(node);
+                    return;
+                }
+                int left = lefts[node], right = rights[node];
+                double leftBound = lowerBound(left), rightBound = lowerBound(right);
+                int near = leftBound <= rightBound ? left : right;
+                double farBound = leftBound <= rightBound ? rightBound : leftBound;
+                if (!prunable(Math.min(leftBound, rightBound), bestDistance)) searchNearest(near);
+                if (!prunable(farBound, bestDistance)) searchNearest(near == left ? right : left);
+            }
+
+            @Override
+            void searchRadius(int node, double radius, double squaredRadius) {
+                if (resultCount >= resultLimit) return;
+                if (node == 0 && prunable(lowerBound(0), squaredRadius)) return;
+                if (lefts[node] < 0) {
+                    scanLeafRadius(node, squaredRadius);
+                    return;
+                }
+                int left = lefts[node], right = rights[node];
+                if (!prunable(lowerBound(left), squaredRadius)) searchRadius(left, radius, squaredRadius);
+                if (!prunable(lowerBound(right), squaredRadius)) searchRadius(right, radius, squaredRadius);
+            }
+        };
+    }
+}
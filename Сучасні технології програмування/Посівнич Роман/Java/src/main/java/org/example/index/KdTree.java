@@ -0,0 +1,89 @@
+package org.example.index;
+
+import java.util.Arrays;
+
+// KD-дерево: вузол ділиться по осі з найбільшим розкидом у медіані. Для малих d відсікає
+// більшість листків; пошук точний (мітка збігається з повним перебором).
+public final class KdTree extends TreeIndex {
+    private int[] splitDimensions = new int[16];
+    private double[] splitValues = new double[16];
+
+    public KdTree(double[] values, int rows, int dimension) {
+        this(values, rows, dimension, DEFAULT_LEAF_SIZE);
+    }
+
+    public KdTree(double[] values, int rows, int dimension, int leafSize) {
+        super(values, rows, dimension, leafSize);
+        if (rows > 0) build(values, new double[rows], 0, rows);
+        reorder(values);
+    }
+
+    @Override
+    void grow(int capacity) {
+        splitDimensions = Arrays.copyOf(splitDimensions, capacity);
+        splitValues = Arrays.copyOf(splitValues, capacity);
+    }
+
+    private int build(double[] values, double[] keys, int start, int end) {
+        int node = newNode(start, end);
+        if (end - start <= leafSize) return node;
+        int axis = -1;
+        double widest = 0;
+        for (int j = 0; j < dimension; j++) {
+            double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+            for (int i = start; i < end; i++) {
+                double x = values[ids[i] * dimension + j];
+                if (x < min) min = x;
+                if (x > max) max = x;
+            }
+            if (max - min > widest) {
+                widest = max - min;
+                axis = j;
+            }
+        }
+        // Усі рядки однакові — ділити нічого
+        if (axis < 0) return node;
+        for (int i = start; i < end; i++) keys[ids[i]] = values[ids[i] * dimension + axis];
+        int middle = (start + end) >>> 1;
+        select(ids, keys, start, end, middle);
+        // Зліва ключі <= split, справа >= split
+        splitDimensions[node] = axis;
+        splitValues[node] = keys[ids[middle]];
+        int left = build(values, keys, start, middle);
+        int right = build(values, keys, middle, end);
+        lefts[node] = left;
+        rights[node] = right;
+        return node;
+    }
+
+    @Override
+    public Searcher searcher() {
+        return new TreeSearcher() {
+            @Override
+            void searchNearest(int node) {
+                if (lefts[node] < 0) {
+                    scanLeafNearest(node);
+                    return;
+                }
+                double diff = query[queryOffset + splitDimensions[node]] - splitValues[node];
+                int near = diff < 0 ? lefts[node] : rights[node];
+                int far = diff < 0 ? rights[node] : lefts[node];
+                searchNearest(near);
+                // <= — на дальньому боці може бути рядок на тій самій відстані з меншим індексом
+                if (diff * diff <= bestDistance) searchNearest(far);
+            }
+
+            @Override
+            void searchRadius(int node, double radius, double squaredRadius) {
+                if (resultCount >= resultLimit) return;
+                if (lefts[node] < 0) {
+                    scanLeafRadius(node, squaredRadius);
+                    return;
+                }
+                double diff = query[queryOffset + splitDimensions[node]] - splitValues[node];
+                if (diff <= radius) searchRadius(lefts[node], radius, squaredRadius);
+                if (diff >= -radius) searchRadius(rights[node], radius, squaredRadius);
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.index;
+
+// Просторовий індекс над рядками row-major масиву (rows x dimension): найближчий рядок і сусіди
+// в радіусі за евклідовою відстанню. Після побудови індекс незмінний і не залежить від вихідного
+// масиву (дані копіюються), тож його можна спільно читати з кількох потоків — кожен потік
+// шукає через власний Searcher.
+public interface SpatialIndex {
+    // До цієї розмірності KD-дерево, вище — кульове дерево (розбиття по осях перестають відсікати)
+    int KD_TREE_MAX_DIMENSION = 10;
+
+    int size();
+
+    int dimension();
+
+    Searcher searcher();
+
+    static SpatialIndex build(double[] values, int rows, int dimension) {
+        return dimension <= KD_TREE_MAX_DIMENSION ? new KdTree(values, rows, dimension) : new BallTree(values, rows, dimension);
+    }
+
+    // Стан пошуку одного потоку: буфер результатів і лічильник обчислених відстаней
+    interface Searcher {
+        // Індекс найближчого рядка (за рівних відстаней — менший індекс); -1 для порожнього індексу
+        int nearest(double[] query, int offset);
+
+        // Квадрат відстані до рядка, знайденого останнім nearest
+        double nearestSquaredDistance();
+
+        // Рядки на відстані <= radius (у порядку дерева); кількість, самі індекси — results()[0 .. count)
+        default int withinRadius(double[] query, int offset, double radius) {
+            return withinRadius(query, offset, radius, Integer.MAX_VALUE);
+        }
+
+        // Те саме, але пошук зупиняється, щойно знайдено limit рядків (перевірка "чи не менше limit сусідів")
+        int withinRadius(double[] query, int offset, double radius, int limit);
+
+        int[] results();
+
+        long distanceEvaluations();
+    }
+}
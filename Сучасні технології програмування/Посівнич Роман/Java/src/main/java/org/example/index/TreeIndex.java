@@ -0,0 +1,181 @@
+package org.example.index;
+
+import java.util.Arrays;
+
+// Спільна основа дерев: рядки копіюються в порядку листків (кожен вузол — суцільний діапазон
+// [start, end)), ids — вихідні індекси рядків. Вузли зберігаються в паралельних масивах.
+abstract class TreeIndex implements SpatialIndex {
+    static final int DEFAULT_LEAF_SIZE = 16;
+
+    final int rows;
+    final int dimension;
+    final int leafSize;
+    // Рядки в порядку дерева
+    double[] data;
+    final int[] ids;
+    int nodeCount;
+    int[] starts = new int[16];
+    int[] ends = new int[16];
+    // Дочірні вузли; -1 — листок
+    int[] lefts = new int[16];
+    int[] rights = new int[16];
+
+    TreeIndex(double[] values, int rows, int dimension, int leafSize) {
+        if (leafSize < 1) throw new IllegalArgumentException("leafSize must be >= 1");
+        if ((long) rows * dimension > values.length) throw new IllegalArgumentException("values holds fewer than rows x dimension");
+        this.rows = rows;
+        this.dimension = dimension;
+        this.leafSize = leafSize;
+        this.ids = new int[rows];
+        for (int i = 0; i < rows; i++) ids[i] = i;
+    }
+
+    // Після побудови: рядки в порядку ids
+    final void reorder(double[] values) {
+        data = new double[rows * dimension];
+        for (int i = 0; i < rows; i++) System.arraycopy(values, ids[i] * dimension, data, i * dimension, dimension);
+    }
+
+    final int newNode(int start, int end) {
+        if (nodeCount == starts.length) {
+            int capacity = nodeCount * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            lefts = Arrays.copyOf(lefts, capacity);
+            rights = Arrays.copyOf(rights, capacity);
+            grow(capacity);
+        }
+        int node = nodeCount++;
+        starts[node] = start;
+        ends[node] = end;
+        lefts[node] = -1;
+        rights[node] = -1;
+        return node;
+    }
+
+    // Розширення додаткових масивів вузлів підкласу
+    abstract void grow(int capacity);
+
+    // Quickselect: переставляє ids[from, to) так, що позиція nth має ключ, не менший за ключі зліва
+    // і не більший за ключі справа
+    static void select(int[] ids, double[] keys, int from, int to, int nth) {
+        int lo = from, hi = to - 1;
+        while (hi > lo) {
+            double pivot = keys[ids[(lo + hi) >>> 1]];
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (keys[ids[i]] < pivot) i++;
+                while (keys[ids[j]] > pivot) j--;
+                if (i <= j) {
+                    int swap = ids[i];
+                    ids[i++] = ids[j];
+                    ids[j--] = swap;
+                }
+            }
+            if (nth <= j) hi = j;
+            else if (nth >= i) lo = i;
+            else return;
+        }
+    }
+
+    @Override
+    public int size() { return rows; }
+
+    @Override
+    public int dimension() { return dimension; }
+
+    // Базовий пошуковець: перевірка листків, кращий кандидат, буфер радіусного запиту
+    abstract class TreeSearcher implements Searcher {
+        double[] query;
+        int queryOffset;
+        int best;
+        double bestDistance;
+        int[] results = new int[16];
+        int resultCount;
+        int resultLimit;
+        long evaluations;
+
+        final void scanLeafNearest(int node) {
+            int d = dimension;
+            for (int i = starts[node], end = ends[node]; i < end; i++) {
+                evaluations++;
+                int offset = i * d;
+                double sum = 0;
+                int j = 0;
+                // Часткова сума: рядок відкидається, щойно стає гіршим (рівний ще перевіряється за індексом)
+                for (; j < d; j++) {
+                    double diff = query[queryOffset + j] - data[offset + j];
+                    sum += diff * diff;
+                    if (sum > bestDistance) break;
+                }
+                if (j == d && (sum < bestDistance || ids[i] < best)) {
+                    bestDistance = sum;
+                    best = ids[i];
+                }
+            }
+        }
+
+        final void scanLeafRadius(int node, double squaredRadius) {
+            int d = dimension;
+            for (int i = starts[node], end = ends[node]; i < end && resultCount < resultLimit; i++) {
+                evaluations++;
+                int offset = i * d;
+                double sum = 0;
+                int j = 0;
+                for (; j < d; j++) {
+                    double diff = query[queryOffset + j] - data[offset + j];
+                    sum += diff * diff;
+                    if (sum > squaredRadius) break;
+                }
+                if (j == d) {
+                    if (resultCount == results.length) results = Arrays.copyOf(results, resultCount * 2);
+                    results[resultCount++] = ids[i];
+                }
+            }
+        }
+
+        final double squaredDistanceTo(double[] points, int offset) {
+            double sum = 0;
+            for (int j = 0; j < dimension; j++) {
+                double diff = query[queryOffset + j] - points[offset + j];
+                sum += diff * diff;
+            }
+            return sum;
+        }
+
+        abstract void searchNearest(int node);
+
+        abstract void searchRadius(int node, double radius, double squaredRadius);
+
+        @Override
+        public int nearest(double[] query, int offset) {
+            this.query = query;
+            this.queryOffset = offset;
+            best = -1;
+            bestDistance = Double.POSITIVE_INFINITY;
+            if (rows > 0) searchNearest(0);
+            this.query = null;
+            return best;
+        }
+
+        @Override
+        public double nearestSquaredDistance() { return bestDistance; }
+
+        @Override
+        public int withinRadius(double[] query, int offset, double radius, int limit) {
+            this.query = query;
+            this.queryOffset = offset;
+            resultCount = 0;
+            resultLimit = limit;
+            if (rows > 0 && radius >= 0 && limit > 0) searchRadius(0, radius, radius * radius);
+            this.query = null;
+            return resultCount;
+        }
+
+        @Override
+        public int[] results() { return results; }
+
+        @Override
+        public long distanceEvaluations() { return evaluations; }
+    }
+}
@@ -0,0 +1,278 @@
+package org.example.io;
+
+import org.example.model.RowSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+// Потокове читання CSV/TSV: файл читається блоками через FileChannel, числа розбираються прямо з байтів
+// (без String на кожне поле), у рядок-результат потрапляють лише вибрані за назвою стовпці.
+// Перший рядок — заголовок. Лапки навколо полів підтримуються, переведення рядка всередині лапок — ні.
+public class CsvRowSource implements RowSource, Closeable {
+    private static final int DEFAULT_CHUNK_BYTES = 1 << 20;
+    // Точні степені 10 у double: для мантиси < 2^53 і |порядку| <= 22 одне множення/ділення дає
+    // правильно округлений результат (Clinger, 1990)
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final int MAX_MANTISSA_DIGITS = 18;
+
+    private final FileChannel channel;
+    private final byte delimiter;
+    private final List<String> header;
+    private final List<String> columns;
+    private final int[] slots;
+    private final int lastSelected;
+    private byte[] bytes;
+    private int position;
+    private int limit;
+    private boolean endOfFile;
+    private long lineNumber;
+
+    // Роздільник визначається за розширенням: .tsv/.tab — табуляція, інакше кома
+    public static CsvRowSource open(Path path, List<String> columns) throws IOException {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        char delimiter = name.endsWith(".tsv") || name.endsWith(".tab") ? '\t' : ',';
+        return new CsvRowSource(path, delimiter, columns);
+    }
+
+    public CsvRowSource(Path path, char delimiter, List<String> columns) throws IOException {
+        this(path, delimiter, columns, DEFAULT_CHUNK_BYTES);
+    }
+
+    // columns — назви потрібних стовпців у порядку ознак; порожній список або null — усі стовпці.
+    // Кожен стовпець можна вибрати лише раз
+    public CsvRowSource(Path path, char delimiter, List<String> columns, int chunkBytes) throws IOException {
+        if (delimiter > 0x7F) throw new IllegalArgumentException("delimiter must be an ASCII character");
+        this.delimiter = (byte) delimiter;
+        this.bytes = new byte[Math.max(64, chunkBytes)];
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            header = readHeader();
+            this.columns = columns == null || columns.isEmpty() ? header : List.copyOf(columns);
+            slots = new int[header.size()];
+            Arrays.fill(slots, -1);
+            int last = -1;
+            for (int slot = 0; slot < this.columns.size(); slot++) {
+                int field = indexOf(this.columns.get(slot));
+                if (field < 0) {
+                    throw new IllegalArgumentException("Column '" + this.columns.get(slot) + "' not found in " + header);
+                }
+                if (slots[field] >= 0) {
+                    throw new IllegalArgumentException("Column '" + header.get(field) + "' selected more than once");
+                }
+                slots[field] = slot;
+                last = Math.max(last, field);
+            }
+            lastSelected = last;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public List<String> getHeader() { return header; }
+    public List<String> getColumns() { return columns; }
+
+    // Номер останнього прочитаного рядка файлу (заголовок — рядок 1)
+    public long getLineNumber() { return lineNumber; }
+
+    @Override
+    public int dimension() { return columns.size(); }
+
+    // Порожні рядки пропускаються; нечислове чи порожнє значення у вибраному стовпці — IOException з номером рядка
+    @Override
+    public int read(double[] buffer, int maxRows) throws IOException {
+        int d = columns.size();
+        int rows = 0;
+        while (rows < maxRows) {
+            int end = nextLineEnd();
+            if (end < 0) break;
+            int lineEnd = end > position && bytes[end - 1] == '\r' ? end - 1 : end;
+            lineNumber++;
+            if (lineEnd > position) {
+                parseRow(position, lineEnd, buffer, rows * d);
+                rows++;
+            }
+            position = Math.min(end + 1, limit);
+        }
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private List<String> readHeader() throws IOException {
+        int end = nextLineEnd();
+        if (end < 0) throw new IOException("Empty file: no header line");
+        int lineEnd = end > position && bytes[end - 1] == '\r' ? end - 1 : end;
+        String line = new String(bytes, position, lineEnd - position, StandardCharsets.UTF_8);
+        if (line.startsWith("\uFEFF")) line = line.substring(1);
+        lineNumber = 1;
+        position = Math.min(end + 1, limit);
+
+        List<String> names = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (ch == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') current.append(line.charAt(++i));
+                else quoted = !quoted;
+            } else if (ch == delimiter && !quoted) {
+                names.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(ch);
+            }
+        }
+        names.add(current.toString().trim());
+        return List.copyOf(names);
+    }
+
+    private int indexOf(String column) {
+        int index = header.indexOf(column);
+        if (index >= 0) return index;
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i).equalsIgnoreCase(column.trim())) return i;
+        }
+        return -1;
+    }
+
+    // Індекс '\n' поточного рядка (або кінця даних для останнього рядка без '\n'); -1 — файл вичерпано.
+    // За потреби дочитує наступний блок, зберігаючи незавершений рядок.
+    private int nextLineEnd() throws IOException {
+        int scanned = position;
+        while (true) {
+            for (int i = scanned; i < limit; i++) {
+                if (bytes[i] == '\n') return i;
+            }
+            if (endOfFile) return position < limit ? limit : -1;
+            int pending = limit - position;
+            fill();
+            scanned = position + pending;
+        }
+    }
+
+    private void fill() throws IOException {
+        int remaining = limit - position;
+        if (position > 0) {
+            System.arraycopy(bytes, position, bytes, 0, remaining);
+        } else if (remaining == bytes.length) {
+            // Рядок довший за блок — розширюємо буфер
+            bytes = Arrays.copyOf(bytes, bytes.length * 2);
+        }
+        position = 0;
+        limit = remaining;
+        int read = channel.read(ByteBuffer.wrap(bytes, limit, bytes.length - limit));
+        if (read < 0) endOfFile = true;
+        else limit += read;
+    }
+
+    private void parseRow(int from, int to, double[] out, int offset) throws IOException {
+        int field = 0, start = from;
+        boolean quoted = false;
+        for (int i = from; ; i++) {
+            if (i == to || (bytes[i] == delimiter && !quoted)) {
+                int slot = field < slots.length ? slots[field] : -1;
+                if (slot >= 0) out[offset + slot] = parseNumber(start, i, field);
+                if (++field > lastSelected || i == to) break;
+                start = i + 1;
+            } else if (bytes[i] == '"') {
+                quoted = !quoted;
+            }
+        }
+        if (field <= lastSelected) {
+            throw new IOException("Line " + lineNumber + ": expected at least " + (lastSelected + 1) + " fields, got " + field);
+        }
+    }
+
+    private double parseNumber(int start, int end, int field) throws IOException {
+        while (start < end && (bytes[start] == ' ' || bytes[start] == '\t' || bytes[start] == '"')) start++;
+        while (end > start && (bytes[end - 1] == ' ' || bytes[end - 1] == '\t' || bytes[end - 1] == '"')) end--;
+
+        int i = start;
+        boolean negative = false;
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) negative = bytes[i++] == '-';
+        long mantissa = 0;
+        int digits = 0, exponent = 0;
+        boolean anyDigit = false, truncated = false;
+        for (; i < end && bytes[i] >= '0' && bytes[i] <= '9'; i++) {
+            anyDigit = true;
+            if (digits < MAX_MANTISSA_DIGITS) {
+                mantissa = mantissa * 10 + (bytes[i] - '0');
+                if (mantissa != 0) digits++;
+            } else {
+                exponent++;
+                truncated |= bytes[i] != '0';
+            }
+        }
+        if (i < end && bytes[i] == '.') {
+            for (i++; i < end && bytes[i] >= '0' && bytes[i] <= '9'; i++) {
+                anyDigit = true;
+                if (digits < MAX_MANTISSA_DIGITS) {
+                    mantissa = mantissa * 10 + (bytes[i] - '0');
+                    if (mantissa != 0) digits++;
+                    exponent--;
+                } else {
+                    truncated |= bytes[i] != '0';
+                }
+            }
+        }
+        if (anyDigit && i < end && (bytes[i] == 'e' || bytes[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (bytes[i] == '-' || bytes[i] == '+')) negativeExponent = bytes[i++] == '-';
+            int explicit = 0;
+            boolean exponentDigit = false;
+            for (; i < end && bytes[i] >= '0' && bytes[i] <= '9'; i++) {
+                exponentDigit = true;
+                if (explicit < 100_000) explicit = explicit * 10 + (bytes[i] - '0');
+            }
+            if (!exponentDigit) anyDigit = false;
+            exponent += negativeExponent ? -explicit : explicit;
+        }
+        if (!anyDigit || i != end || truncated) return parseSlow(start, end, field);
+
+        double value;
+        if (mantissa == 0) value = 0.0;
+        else if (exponent == 0) value = mantissa;
+        else if (exponent > 0 && exponent <= 22 && mantissa < (1L << 53)) value = mantissa * POWERS_OF_TEN[exponent];
+        else if (exponent < 0 && exponent >= -22 && mantissa < (1L << 53)) value = mantissa / POWERS_OF_TEN[-exponent];
+        else return parseSlow(start, end, field);
+        return negative ? -value : value;
+    }
+
+    // Рідкісні випадки (дуже довгі мантиси, великі порядки, NaN/Infinity) — через Double.parseDouble.
+    // Java-літерали, які parseDouble теж приймає (1.5f, 2d, 0x1p3), у CSV числами не вважаються
+    private double parseSlow(int start, int end, int field) throws IOException {
+        String text = new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+        try {
+            if (isDecimalText(text)) return Double.parseDouble(text);
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IOException("Line " + lineNumber + ", column '" + header.get(field) + "': not a number: '" + text + "'");
+    }
+
+    // Лише цифри, знак, крапка й порядок (e/E) або [+-]NaN / [+-]Infinity
+    private static boolean isDecimalText(String text) {
+        String unsigned = text.startsWith("-") || text.startsWith("+") ? text.substring(1) : text;
+        if (unsigned.equals("NaN") || unsigned.equals("Infinity")) return true;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if ((ch < '0' || ch > '9') && ch != '+' && ch != '-' && ch != '.' && ch != 'e' && ch != 'E') return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.model;
+
+// Профіль кластерів: FeatureSummary (кількість, середнє, дисперсія, мін/макс, ескізи квантилів)
+// для кожного кластера окремо. Профілі блоків даних або послідовних порцій потоку зливаються
+// через merge, тож повторний прохід по даних не потрібен. Мітки поза [0, clusters) (шум) пропускаються.
+public class ClusterProfile {
+    private final FeatureSummary[] clusters;
+    private final int dimension;
+
+    public ClusterProfile(int clusters, int dimension, boolean quantiles) {
+        this.dimension = dimension;
+        this.clusters = new FeatureSummary[clusters];
+        for (int c = 0; c < clusters; c++) this.clusters[c] = new FeatureSummary(dimension, quantiles);
+    }
+
+    public void add(double[] values, int offset, int label) {
+        if (label >= 0 && label < clusters.length) clusters[label].add(values, offset);
+    }
+
+    // Рядки [from, to) набору даних з мітками labels[from .. to)
+    public void add(Dataset data, int[] labels, int from, int to) {
+        if (data.dimension() != dimension) throw new IllegalArgumentException("dimension mismatch");
+        double[] values = data.values();
+        for (int p = from; p < to; p++) add(values, p * dimension, labels[p]);
+    }
+
+    public void merge(ClusterProfile other) {
+        if (other.clusters.length != clusters.length) throw new IllegalArgumentException("cluster count mismatch");
+        for (int c = 0; c < clusters.length; c++) clusters[c].merge(other.clusters[c]);
+    }
+
+    public int getClusterCount() { return clusters.length; }
+    public int getDimension() { return dimension; }
+    public long getCount(int cluster) { return clusters[cluster].getCount(); }
+    public FeatureSummary getSummary(int cluster) { return clusters[cluster]; }
+}
@@ -2,15 +2,42 @@ package org.example.model;
 
 import java.util.List;
 
+// Результат одного запуску: спільні (лише для читання) ознаки + власний масив міток цього запуску.
+// UI читає getFeature/getLabel напряму, без створення DataPoint на кожен рядок.
 public class ClusterResult {
-    private final List<DataPoint> clusteredPoints;
+    private final Dataset data;
+    private final int[] labels;
     private final List<DataPoint> centroids;
+    private List<DataPoint> clusteredPoints;
+
+    public ClusterResult(Dataset data, int[] labels, List<DataPoint> centroids) {
+        if (labels.length != data.size()) throw new IllegalArgumentException("labels.length must be data.size()");
+        this.data = data;
+        this.labels = labels;
+        this.centroids = centroids;
+    }
 
     public ClusterResult(List<DataPoint> clusteredPoints, List<DataPoint> centroids) {
-        this.clusteredPoints = clusteredPoints;
+        this.data = Dataset.fromPoints(clusteredPoints);
+        this.labels = data.labels();
         this.centroids = centroids;
+        this.clusteredPoints = clusteredPoints;
     }
 
-    public List<DataPoint> getClusteredPoints() { return clusteredPoints; }
+    public int size() { return labels.length; }
+    public int dimension() { return data.dimension(); }
+    public double getFeature(int row, int feature) { return data.get(row, feature); }
+    public int getLabel(int row) { return labels[row]; }
+
+    // Масиви без копіювання — не змінювати
+    public Dataset getData() { return data; }
+    public int[] getLabels() { return labels; }
+
     public List<DataPoint> getCentroids() { return centroids; }
-}
\ No newline at end of file
+
+    // Для сумісності: точки створюються лише при першому зверненні
+    public List<DataPoint> getClusteredPoints() {
+        if (clusteredPoints == null) clusteredPoints = data.withLabels(labels).toPoints();
+        return clusteredPoints;
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.model;
+
+// Побічний продукт фінального проходу k-means: з цих величин метрики (CH, інерція, Девіс-Боулдін)
+// рахуються за O(k^2 * d), без повторного обходу точок
+public class ClusterStatistics {
+    private final double[] centroids;
+    private final int[] counts;
+    private final int dimension;
+    private final double[] withinSquares;
+    private final double[] distanceSums;
+    private final double[] globalMean;
+    private final long total;
+    private final double inertia;
+    private final double betweenScatter;
+
+    public ClusterStatistics(double[] centroids, int[] counts, int dimension, double[] withinSquares,
+                             double[] distanceSums, double[] globalMean) {
+        this.centroids = centroids;
+        this.counts = counts;
+        this.dimension = dimension;
+        this.withinSquares = withinSquares;
+        this.distanceSums = distanceSums;
+        this.globalMean = globalMean;
+
+        long n = 0;
+        double wss = 0, bss = 0;
+        for (int c = 0; c < counts.length; c++) {
+            n += counts[c];
+            wss += withinSquares[c];
+            double squared = 0;
+            for (int j = 0; j < dimension; j++) {
+                double diff = centroids[c * dimension + j] - globalMean[j];
+                squared += diff * diff;
+            }
+            bss += counts[c] * squared;
+        }
+        this.total = n;
+        this.inertia = wss;
+        this.betweenScatter = bss;
+    }
+
+    public int getClusterCount() { return counts.length; }
+    public int getCount(int cluster) { return counts[cluster]; }
+    public long getTotal() { return total; }
+    public double[] getGlobalMean() { return globalMean.clone(); }
+
+    // Сума квадратів відстаней до центроїдів (within-cluster SS), основа "ліктя"
+    public double getInertia() { return inertia; }
+    public double getWithinClusterSumOfSquares(int cluster) { return withinSquares[cluster]; }
+
+    // Сума n_c * |c - глобальне середнє|^2 (between-cluster SS)
+    public double getBetweenClusterScatter() { return betweenScatter; }
+
+    public double calinskiHarabasz() {
+        int K = counts.length;
+        if (total == 0 || K <= 1 || total <= K || inertia == 0) return 0.0;
+        return (betweenScatter / (K - 1)) / (inertia / (total - K));
+    }
+
+    // Середнє за кластерами max_j (S_i + S_j) / |c_i - c_j|, де S_i — середня відстань точок до центроїда
+    public double daviesBouldin() {
+        int K = counts.length;
+        double sum = 0;
+        int nonEmpty = 0;
+        for (int i = 0; i < K; i++) {
+            if (counts[i] == 0) continue;
+            double scatterI = distanceSums[i] / counts[i];
+            double worst = 0;
+            for (int j = 0; j < K; j++) {
+                if (j == i || counts[j] == 0) continue;
+                double separation = 0;
+                for (int f = 0; f < dimension; f++) {
+                    double diff = centroids[i * dimension + f] - centroids[j * dimension + f];
+                    separation += diff * diff;
+                }
+                separation = Math.sqrt(separation);
+                double ratio = separation == 0 ? Double.MAX_VALUE : (scatterI + distanceSums[j] / counts[j]) / separation;
+                worst = Math.max(worst, ratio);
+            }
+            sum += worst;
+            nonEmpty++;
+        }
+        return nonEmpty <= 1 ? 0.0 : sum / nonEmpty;
+    }
+}
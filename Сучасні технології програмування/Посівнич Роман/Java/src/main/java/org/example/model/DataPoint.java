@@ -17,10 +17,15 @@ public class DataPoint {
     public void setClusterId(int clusterId) { this.clusterId = clusterId; }
 
     public double distanceTo(DataPoint other) {
+        return Math.sqrt(squaredDistanceTo(other));
+    }
+
+    public double squaredDistanceTo(DataPoint other) {
         double sum = 0;
         for (int i = 0; i < features.length; i++) {
-            sum += Math.pow(features[i] - other.features[i], 2);
+            double diff = features[i] - other.features[i];
+            sum += diff * diff;
         }
-        return Math.sqrt(sum);
+        return sum;
     }
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package org.example.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Щільне представлення даних: n x d значень в одному масиві (row-major) + мітки кластерів.
+// Значення можуть бути спільними для кількох наборів (view/withLabels): кожен запуск кластеризації
+// отримує власний масив міток, а ознаки лише читає.
+public class Dataset {
+    private final int size;
+    private final int dimension;
+    private final double[] values;
+    private final int[] labels;
+
+    public Dataset(int size, int dimension) {
+        this(new double[size * dimension], size, dimension);
+    }
+
+    public Dataset(double[] values, int size, int dimension) {
+        this(values, size, dimension, new int[size]);
+        Arrays.fill(labels, -1);
+    }
+
+    private Dataset(double[] values, int size, int dimension, int[] labels) {
+        if (size < 0 || dimension < 0 || values.length != size * dimension) {
+            throw new IllegalArgumentException("values.length must be size * dimension");
+        }
+        if (labels.length != size) throw new IllegalArgumentException("labels.length must be size");
+        this.size = size;
+        this.dimension = dimension;
+        this.values = values;
+        this.labels = labels;
+    }
+
+    public static Dataset fromPoints(List<DataPoint> points) {
+        if (points.isEmpty()) return new Dataset(0, 0);
+        int d = points.get(0).getFeatures().length;
+        Dataset dataset = new Dataset(points.size(), d);
+        for (int i = 0; i < points.size(); i++) {
+            DataPoint p = points.get(i);
+            System.arraycopy(p.getFeatures(), 0, dataset.values, i * d, d);
+            dataset.labels[i] = p.getClusterId();
+        }
+        return dataset;
+    }
+
+    public static Dataset fromRows(List<double[]> rows) {
+        if (rows.isEmpty()) return new Dataset(0, 0);
+        int d = rows.get(0).length;
+        Dataset dataset = new Dataset(rows.size(), d);
+        for (int i = 0; i < rows.size(); i++) {
+            System.arraycopy(rows.get(i), 0, dataset.values, i * d, d);
+        }
+        return dataset;
+    }
+
+    // Читає джерело до кінця в один масив (ємність подвоюється); для даних, що не вміщуються
+    // в пам'ять, джерело слід подавати в MiniBatchKMeans.fit(RowSource) або OnlineKMeans
+    public static Dataset fromSource(RowSource source) throws IOException {
+        int d = source.dimension();
+        int chunkRows = 4096;
+        double[] chunk = new double[chunkRows * d];
+        double[] values = new double[chunkRows * d];
+        int rows = 0;
+        int read;
+        while ((read = source.read(chunk, chunkRows)) > 0) {
+            long required = (long) (rows + read) * d;
+            if (required > values.length) {
+                long capacity = Math.max(required, (long) values.length * 2);
+                if (capacity > Integer.MAX_VALUE - 8) {
+                    if (required > Integer.MAX_VALUE - 8) throw new IllegalStateException("Source does not fit in one array");
+                    capacity = Integer.MAX_VALUE - 8;
+                }
+                values = Arrays.copyOf(values, (int) capacity);
+            }
+            System.arraycopy(chunk, 0, values, rows * d, read * d);
+            rows += read;
+        }
+        return new Dataset(Arrays.copyOf(values, rows * d), rows, d);
+    }
+
+    public int size() { return size; }
+    public int dimension() { return dimension; }
+
+    // Прямий доступ до масивів для обчислювальних ядер (без копіювання)
+    public double[] values() { return values; }
+    public int[] labels() { return labels; }
+
+    public int offset(int row) { return row * dimension; }
+
+    public double get(int row, int column) { return values[row * dimension + column]; }
+    public void set(int row, int column, double value) { values[row * dimension + column] = value; }
+
+    public int getLabel(int row) { return labels[row]; }
+    public void setLabel(int row, int label) { labels[row] = label; }
+
+    public double[] getRow(int row) {
+        return Arrays.copyOfRange(values, row * dimension, (row + 1) * dimension);
+    }
+
+    // Ті самі ознаки (без копіювання), нові мітки -1
+    public Dataset view() {
+        return new Dataset(values, size, dimension);
+    }
+
+    // Ті самі ознаки з заданим масивом міток (наприклад, з ClusterResult)
+    public Dataset withLabels(int[] labels) {
+        return new Dataset(values, size, dimension, labels);
+    }
+
+    public Dataset copy() {
+        Dataset copy = new Dataset(values.clone(), size, dimension);
+        System.arraycopy(labels, 0, copy.labels, 0, size);
+        return copy;
+    }
+
+    // Адаптер назад до моделі DataPoint (для UI)
+    public List<DataPoint> toPoints() {
+        List<DataPoint> points = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            DataPoint p = new DataPoint(getRow(i));
+            p.setClusterId(labels[i]);
+            points.add(p);
+        }
+        return points;
+    }
+
+    // Переносить мітки на вихідні точки, з яких був побудований набір
+    public void copyLabelsTo(List<DataPoint> points) {
+        for (int i = 0; i < size; i++) points.get(i).setClusterId(labels[i]);
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.model;
+
+import java.util.Arrays;
+
+// Злиттєві статистики по кожній ознаці: кількість, мінімум, максимум, середнє і дисперсія
+// (Велфорд; злиття — за Чаном), за бажанням — ескізи квантилів. Блоки даних підсумовуються
+// незалежно й потім зливаються, тож один паралельний прохід дає всі величини.
+public class FeatureSummary {
+    private final int dimension;
+    private long count;
+    private final double[] min;
+    private final double[] max;
+    private final double[] mean;
+    private final double[] squaredDeviations;
+    private final QuantileSketch[] sketches;
+
+    public FeatureSummary(int dimension, boolean quantiles) {
+        this.dimension = dimension;
+        this.min = new double[dimension];
+        this.max = new double[dimension];
+        this.mean = new double[dimension];
+        this.squaredDeviations = new double[dimension];
+        Arrays.fill(min, Double.POSITIVE_INFINITY);
+        Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        if (quantiles) {
+            sketches = new QuantileSketch[dimension];
+            for (int j = 0; j < dimension; j++) sketches[j] = new QuantileSketch();
+        } else {
+            sketches = null;
+        }
+    }
+
+    // Рядок values[offset .. offset + dimension)
+    public void add(double[] values, int offset) {
+        count++;
+        for (int j = 0; j < dimension; j++) {
+            double x = values[offset + j];
+            if (x < min[j]) min[j] = x;
+            if (x > max[j]) max[j] = x;
+            double delta = x - mean[j];
+            mean[j] += delta / count;
+            squaredDeviations[j] += delta * (x - mean[j]);
+            if (sketches != null) sketches[j].add(x);
+        }
+    }
+
+    public void merge(FeatureSummary other) {
+        if (other.dimension != dimension) throw new IllegalArgumentException("dimension mismatch");
+        if (other.count == 0) return;
+        long total = count + other.count;
+        for (int j = 0; j < dimension; j++) {
+            min[j] = Math.min(min[j], other.min[j]);
+            max[j] = Math.max(max[j], other.max[j]);
+            double delta = other.mean[j] - mean[j];
+            mean[j] += delta * other.count / total;
+            squaredDeviations[j] += other.squaredDeviations[j] + delta * delta * count * other.count / total;
+            if (sketches != null && other.sketches != null) sketches[j].merge(other.sketches[j]);
+        }
+        count = total;
+    }
+
+    public int getDimension() { return dimension; }
+    public long getCount() { return count; }
+    public boolean hasQuantiles() { return sketches != null; }
+
+    public double getMin(int feature) { return count == 0 ? Double.NaN : min[feature]; }
+    public double getMax(int feature) { return count == 0 ? Double.NaN : max[feature]; }
+    public double getMean(int feature) { return count == 0 ? Double.NaN : mean[feature]; }
+
+    // Дисперсія сукупності (ділення на n)
+    public double getVariance(int feature) { return count == 0 ? Double.NaN : squaredDeviations[feature] / count; }
+    public double getStandardDeviation(int feature) { return Math.sqrt(getVariance(feature)); }
+
+    public double getQuantile(int feature, double q) {
+        if (sketches == null) throw new IllegalStateException("summary was built without quantile sketches");
+        return sketches[feature].quantile(q);
+    }
+}
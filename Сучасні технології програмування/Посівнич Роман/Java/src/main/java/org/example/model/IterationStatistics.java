@@ -0,0 +1,44 @@
+package org.example.model;
+
+// Показники однієї ітерації k-means (прохід призначення + крок оновлення)
+public class IterationStatistics {
+    private final int iteration;
+    private final double inertia;
+    private final int reassigned;
+    private final double maxShift;
+    private final double totalShift;
+    private final long assignNanos;
+    private final long updateNanos;
+    private final long distanceEvaluations;
+
+    public IterationStatistics(int iteration, double inertia, int reassigned, double maxShift, double totalShift,
+                               long assignNanos, long updateNanos, long distanceEvaluations) {
+        this.iteration = iteration;
+        this.inertia = inertia;
+        this.reassigned = reassigned;
+        this.maxShift = maxShift;
+        this.totalShift = totalShift;
+        this.assignNanos = assignNanos;
+        this.updateNanos = updateNanos;
+        this.distanceEvaluations = distanceEvaluations;
+    }
+
+    // Номер ітерації з нуля
+    public int getIteration() { return iteration; }
+    // Сума квадратів відстаней до центроїдів, за якими точки щойно призначено (до оновлення)
+    public double getInertia() { return inertia; }
+    // Точки, що змінили кластер (на першій ітерації — усі)
+    public int getReassigned() { return reassigned; }
+    public double getMaxShift() { return maxShift; }
+    public double getTotalShift() { return totalShift; }
+    public long getAssignNanos() { return assignNanos; }
+    public long getUpdateNanos() { return updateNanos; }
+    // Обчислені відстані точка-центроїд у проході призначення
+    public long getDistanceEvaluations() { return distanceEvaluations; }
+
+    @Override
+    public String toString() {
+        return String.format("#%d: інерція %.4f, перепризначено %d, зсув max %.6f, призначення %.2f мс, оновлення %.2f мс, відстаней %d",
+                iteration, inertia, reassigned, maxShift, assignNanos / 1e6, updateNanos / 1e6, distanceEvaluations);
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.model;
+
+import java.util.Arrays;
+
+// Злиттєвий ескіз квантилів у стилі KLL (Karnin, Lang, Liberty, 2016): рівень h зберігає значення з вагою 2^h,
+// переповнений рівень сортується і кожне друге значення переходить на рівень вище. Пам'ять — O(k),
+// похибка рангу — порядку 1/k незалежно від кількості значень. Зсув ущільнення чергується
+// детерміновано, тож той самий порядок add/merge дає той самий результат.
+public class QuantileSketch {
+    private static final int DEFAULT_K = 200;
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+
+    private final int k;
+    private double[][] levels = new double[1][];
+    private int[] sizes = new int[1];
+    private int[] capacities = new int[1];
+    private int levelCount = 1;
+    private int retained;
+    private int totalCapacity;
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+    private int compactions;
+
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    public QuantileSketch(int k) {
+        if (k < 8) throw new IllegalArgumentException("k must be at least 8");
+        this.k = k;
+        updateCapacities();
+        levels[0] = new double[capacities[0]];
+    }
+
+    public long getCount() { return count; }
+    public double getMin() { return min; }
+    public double getMax() { return max; }
+
+    // NaN ігнорується
+    public void add(double value) {
+        if (Double.isNaN(value)) return;
+        if (count == 0 || value < min) min = value;
+        if (count == 0 || value > max) max = value;
+        count++;
+        append(0, value);
+        compress();
+    }
+
+    public void merge(QuantileSketch other) {
+        if (other.count == 0) return;
+        if (count == 0 || other.min < min) min = other.min;
+        if (count == 0 || other.max > max) max = other.max;
+        count += other.count;
+        for (int h = 0; h < other.levelCount; h++) {
+            for (int i = 0; i < other.sizes[h]; i++) append(h, other.levels[h][i]);
+        }
+        compress();
+    }
+
+    // Значення, ранг якого приблизно q * count (q у [0, 1]); NaN для порожнього ескізу
+    public double quantile(double q) {
+        if (count == 0) return Double.NaN;
+        if (q <= 0) return min;
+        if (q >= 1) return max;
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+        int index = 0;
+        for (int h = 0; h < levelCount; h++) {
+            for (int i = 0; i < sizes[h]; i++) {
+                values[index] = levels[h][i];
+                weights[index++] = 1L << h;
+            }
+        }
+        Integer[] order = new Integer[retained];
+        for (int i = 0; i < retained; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+        long totalWeight = 0;
+        for (long weight : weights) totalWeight += weight;
+        double target = q * totalWeight;
+        long cumulative = 0;
+        for (int i : order) {
+            cumulative += weights[i];
+            if (cumulative >= target) return values[i];
+        }
+        return max;
+    }
+
+    private void append(int level, double value) {
+        while (level >= levelCount) addLevel();
+        if (sizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], Math.max(2, levels[level].length * 2));
+        }
+        levels[level][sizes[level]++] = value;
+        retained++;
+    }
+
+    private void addLevel() {
+        if (levelCount == levels.length) {
+            levels = Arrays.copyOf(levels, levelCount * 2);
+            sizes = Arrays.copyOf(sizes, levelCount * 2);
+            capacities = Arrays.copyOf(capacities, levelCount * 2);
+        }
+        levels[levelCount] = new double[2];
+        sizes[levelCount] = 0;
+        levelCount++;
+        updateCapacities();
+    }
+
+    // Ущільнює найнижчий переповнений рівень, доки загальний обсяг не вкладеться в ємність
+    private void compress() {
+        while (retained > totalCapacity) {
+            for (int h = 0; h < levelCount; h++) {
+                if (sizes[h] >= capacities[h]) {
+                    compact(h);
+                    break;
+                }
+            }
+        }
+    }
+
+    private void compact(int level) {
+        if (level + 1 == levelCount) addLevel();
+        double[] items = levels[level];
+        int size = sizes[level];
+        Arrays.sort(items, 0, size);
+        // При непарній кількості одне (найбільше) значення лишається на рівні
+        int paired = size & ~1;
+        int offset = compactions++ & 1;
+        for (int i = offset; i < paired; i += 2) append(level + 1, items[i]);
+        if (paired < size) items[0] = items[size - 1];
+        sizes[level] = size - paired;
+        retained -= paired;
+    }
+
+    // Ємність рівня спадає геометрично від верхнього рівня до нижнього
+    private void updateCapacities() {
+        totalCapacity = 0;
+        for (int h = 0; h < levelCount; h++) {
+            int depth = levelCount - 1 - h;
+            capacities[h] = Math.max(2, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+            totalCapacity += capacities[h];
+        }
+    }
+}
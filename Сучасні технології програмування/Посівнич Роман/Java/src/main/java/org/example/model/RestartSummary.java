@@ -0,0 +1,41 @@
+package org.example.model;
+
+import java.util.Arrays;
+
+// Розкид інерції між перезапусками k-means (лише завершені запуски)
+public class RestartSummary {
+    private final double[] inertias;
+    private final int abandoned;
+    private final int bestRestart;
+    private final long bestSeed;
+
+    public RestartSummary(double[] inertias, int abandoned, int bestRestart, long bestSeed) {
+        this.inertias = inertias;
+        this.abandoned = abandoned;
+        this.bestRestart = bestRestart;
+        this.bestSeed = bestSeed;
+    }
+
+    public int getCompleted() { return inertias.length; }
+    public int getAbandoned() { return abandoned; }
+    public int getBestRestart() { return bestRestart; }
+    public long getBestSeed() { return bestSeed; }
+    public double[] getInertias() { return inertias.clone(); }
+
+    public double getMin() { return Arrays.stream(inertias).min().orElse(Double.NaN); }
+    public double getMax() { return Arrays.stream(inertias).max().orElse(Double.NaN); }
+    public double getMean() { return Arrays.stream(inertias).average().orElse(Double.NaN); }
+
+    public double getStandardDeviation() {
+        if (inertias.length < 2) return 0.0;
+        double mean = getMean(), sum = 0;
+        for (double inertia : inertias) sum += (inertia - mean) * (inertia - mean);
+        return Math.sqrt(sum / (inertias.length - 1));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("best #%d: %.4f, min/mean/max %.4f/%.4f/%.4f, sd %.4f, зупинено достроково: %d",
+                bestRestart, getMin(), getMin(), getMean(), getMax(), getStandardDeviation(), abandoned);
+    }
+}
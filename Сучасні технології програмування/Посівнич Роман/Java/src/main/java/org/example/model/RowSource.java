@@ -0,0 +1,12 @@
+package org.example.model;
+
+import java.io.IOException;
+
+// Потокове джерело рядків ознак (наприклад, файл), яке не вміщується в пам'ять цілком
+public interface RowSource {
+    int dimension();
+
+    // Читає до maxRows рядків у buffer (row-major, dimension() значень на рядок).
+    // Повертає кількість прочитаних рядків, 0 — коли джерело вичерпане.
+    int read(double[] buffer, int maxRows) throws IOException;
+}
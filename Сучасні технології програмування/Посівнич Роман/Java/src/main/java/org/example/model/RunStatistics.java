@@ -0,0 +1,41 @@
+package org.example.model;
+
+// Підсумок одного fit(): кількість ітерацій, збіжність, сумарний час фаз і кількість відстаней
+// (разом із фінальним проходом, з якого рахується ClusterStatistics)
+public class RunStatistics {
+    private final int iterations;
+    private final boolean converged;
+    private final double inertia;
+    private final long assignNanos;
+    private final long updateNanos;
+    private final long distanceEvaluations;
+    private final long totalNanos;
+
+    public RunStatistics(int iterations, boolean converged, double inertia, long assignNanos, long updateNanos,
+                         long distanceEvaluations, long totalNanos) {
+        this.iterations = iterations;
+        this.converged = converged;
+        this.inertia = inertia;
+        this.assignNanos = assignNanos;
+        this.updateNanos = updateNanos;
+        this.distanceEvaluations = distanceEvaluations;
+        this.totalNanos = totalNanos;
+    }
+
+    public int getIterations() { return iterations; }
+    // false — зупинка через maxIterations
+    public boolean isConverged() { return converged; }
+    public double getInertia() { return inertia; }
+    public long getAssignNanos() { return assignNanos; }
+    public long getUpdateNanos() { return updateNanos; }
+    public long getDistanceEvaluations() { return distanceEvaluations; }
+    // Увесь fit(), включно з ініціалізацією центроїдів
+    public long getTotalNanos() { return totalNanos; }
+
+    @Override
+    public String toString() {
+        return String.format("ітерацій %d%s, інерція %.4f, призначення %.1f мс, оновлення %.1f мс, усього %.1f мс, відстаней %d",
+                iterations, converged ? "" : " (без збіжності)", inertia, assignNanos / 1e6, updateNanos / 1e6,
+                totalNanos / 1e6, distanceEvaluations);
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.model;
+
+// Вибіркова оцінка силуету: середнє ± півширина 95% довірчого інтервалу (NaN, якщо її не оцінити)
+public class SilhouetteEstimate {
+    private final double mean;
+    private final double marginOfError;
+    private final int sampleSize;
+
+    public SilhouetteEstimate(double mean, double marginOfError, int sampleSize) {
+        this.mean = mean;
+        this.marginOfError = marginOfError;
+        this.sampleSize = sampleSize;
+    }
+
+    public double getMean() { return mean; }
+    public double getMarginOfError() { return marginOfError; }
+    public double getLower() { return mean - marginOfError; }
+    public double getUpper() { return mean + marginOfError; }
+    public int getSampleSize() { return sampleSize; }
+
+    @Override
+    public String toString() {
+        return String.format("%.4f ± %.4f (n=%d)", mean, marginOfError, sampleSize);
+    }
+}
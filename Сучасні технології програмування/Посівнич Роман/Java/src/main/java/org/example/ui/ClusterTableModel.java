@@ -0,0 +1,172 @@
+package org.example.ui;
+
+import org.example.model.ClusterResult;
+import org.example.model.Dataset;
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.JTableHeader;
+import javax.swing.table.TableColumn;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+// Таблиця результатів без попереднього заповнення: клітинки читаються з масивів ознак і міток
+// і форматуються лише тоді, коли JTable малює видимі рядки. Сортування й фільтр — через
+// перестановку індексів рядків (int[]), самі дані не копіюються.
+// Стовпці: ознаки (вихідні), ознаки (нормалізовані), кластер.
+public class ClusterTableModel extends AbstractTableModel {
+    private final List<String> featureNames;
+    private Dataset rawData;
+    private ClusterResult result;
+    // Рядки моделі у порядку показу; null — усі рядки у вихідному порядку
+    private int[] order;
+    private IntPredicate filter;
+    private int sortColumn = -1;
+    private boolean ascending = true;
+
+    public ClusterTableModel(List<String> featureNames) {
+        this.featureNames = featureNames;
+    }
+
+    // Сортування й фільтр зберігаються між оновленнями результату
+    public void setData(Dataset rawData, ClusterResult result) {
+        if (rawData.size() != result.size()) throw new IllegalArgumentException("raw and clustered data differ in size");
+        this.rawData = rawData;
+        this.result = result;
+        rebuildOrder();
+    }
+
+    // Лише рядки, для яких filter.test(рядок моделі) == true; null — без фільтра
+    public void setFilter(IntPredicate filter) {
+        this.filter = filter;
+        rebuildOrder();
+    }
+
+    public void setClusterFilter(int cluster) {
+        setFilter(cluster < 0 ? null : row -> result.getLabel(row) == cluster);
+    }
+
+    // column < 0 — вихідний порядок
+    public void setSort(int column, boolean ascending) {
+        this.sortColumn = column;
+        this.ascending = ascending;
+        rebuildOrder();
+    }
+
+    public int getSortColumn() { return sortColumn; }
+    public boolean isAscending() { return ascending; }
+
+    // Клік по заголовку: зростання -> спадання -> без сортування; стрілка в заголовку стовпця
+    public void installHeaderSorting(JTable table) {
+        JTableHeader header = table.getTableHeader();
+        header.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int viewColumn = header.columnAtPoint(e.getPoint());
+                if (viewColumn < 0) return;
+                int column = table.convertColumnIndexToModel(viewColumn);
+                if (column != sortColumn) setSort(column, true);
+                else if (ascending) setSort(column, false);
+                else setSort(-1, true);
+                for (int c = 0; c < table.getColumnCount(); c++) {
+                    TableColumn tableColumn = table.getColumnModel().getColumn(c);
+                    int modelColumn = tableColumn.getModelIndex();
+                    String name = getColumnName(modelColumn);
+                    tableColumn.setHeaderValue(modelColumn == sortColumn ? name + (ascending ? " ▲" : " ▼") : name);
+                }
+                header.repaint();
+            }
+        });
+    }
+
+    // Рядок моделі (індекс у наборі даних) для рядка таблиці
+    public int toDataRow(int row) {
+        return order == null ? row : order[row];
+    }
+
+    @Override
+    public int getRowCount() {
+        if (result == null) return 0;
+        return order == null ? result.size() : order.length;
+    }
+
+    @Override
+    public int getColumnCount() { return featureNames.size() * 2 + 1; }
+
+    @Override
+    public String getColumnName(int column) {
+        int d = featureNames.size();
+        if (column < d) return featureNames.get(column) + " (Orig)";
+        if (column < 2 * d) return featureNames.get(column - d) + " (Norm)";
+        return "Cluster";
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        int dataRow = toDataRow(row);
+        int d = featureNames.size();
+        if (column < d) return String.format("%.2f", rawData.get(dataRow, column));
+        if (column < 2 * d) return String.format("%.3f", result.getFeature(dataRow, column - d));
+        return String.valueOf(result.getLabel(dataRow));
+    }
+
+    private double key(int dataRow, int column) {
+        int d = featureNames.size();
+        if (column < d) return rawData.get(dataRow, column);
+        if (column < 2 * d) return result.getFeature(dataRow, column - d);
+        return result.getLabel(dataRow);
+    }
+
+    private void rebuildOrder() {
+        if (result == null) return;
+        int n = result.size();
+        if (filter == null && sortColumn < 0) {
+            order = null;
+        } else {
+            int[] rows = new int[n];
+            int count = 0;
+            for (int row = 0; row < n; row++) {
+                if (filter == null || filter.test(row)) rows[count++] = row;
+            }
+            order = count == n ? rows : Arrays.copyOf(rows, count);
+            if (sortColumn >= 0) sortOrder();
+        }
+        fireTableDataChanged();
+    }
+
+    // Стабільне сортування злиттям пар (ключ, рядок) без упаковки в Integer; ключі переставляються
+    // разом з рядками, тож злиття читає пам'ять послідовно
+    private void sortOrder() {
+        int count = order.length;
+        double[] keys = new double[count];
+        for (int i = 0; i < count; i++) keys[i] = ascending ? key(order[i], sortColumn) : -key(order[i], sortColumn);
+        int[] rows = order;
+        double[] keyBuffer = new double[count];
+        int[] rowBuffer = new int[count];
+        for (int width = 1; width < count; width *= 2) {
+            for (int from = 0; from < count; from += 2 * width) {
+                int middle = Math.min(from + width, count), to = Math.min(from + 2 * width, count);
+                int left = from, right = middle, out = from;
+                while (left < middle && right < to) {
+                    int source = keys[right] < keys[left] ? right++ : left++;
+                    keyBuffer[out] = keys[source];
+                    rowBuffer[out++] = rows[source];
+                }
+                System.arraycopy(keys, left, keyBuffer, out, middle - left);
+                System.arraycopy(rows, left, rowBuffer, out, middle - left);
+                out += middle - left;
+                System.arraycopy(keys, right, keyBuffer, out, to - right);
+                System.arraycopy(rows, right, rowBuffer, out, to - right);
+            }
+            double[] swapKeys = keys;
+            keys = keyBuffer;
+            keyBuffer = swapKeys;
+            int[] swapRows = rows;
+            rows = rowBuffer;
+            rowBuffer = swapRows;
+        }
+        order = rows;
+    }
+}
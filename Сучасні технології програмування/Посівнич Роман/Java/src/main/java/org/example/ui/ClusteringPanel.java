@@ -4,22 +4,32 @@ import org.example.model.ClusterResult;
 import org.example.model.DataPoint;
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.util.List;
 
 public class ClusteringPanel extends JPanel {
     private final int PADDING = 40;
     private final int DOT_SIZE = 8;
+    // Більше точок (або сильне перекриття) — замість кружечків шар щільності
+    private static final int MAX_SCATTER_POINTS = 50_000;
+    private static final int DENSITY_CELL = 2;
+    private static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 14);
     private final List<String> featureNames;
     private ClusterResult currentResult;
     private int currentK;
     private int visFeatureXIndex = 0;
     private int visFeatureYIndex = 1;
+    // Растр точок; перебудовується лише при зміні даних, осей або розміру області графіка
+    private BufferedImage pointLayer;
+    private int layerWidth, layerHeight;
 
     public static final Color[] CLUSTER_COLORS = {
             new Color(255, 99, 132), new Color(54, 162, 235), new Color(75, 192, 192),
             new Color(255, 205, 86), new Color(153, 102, 255), new Color(255, 159, 64),
             new Color(199, 199, 199)
     };
+    // Точки без кластера (шум DBSCAN, мітка < 0)
+    public static final Color NOISE_COLOR = Color.LIGHT_GRAY;
 
     public ClusteringPanel(List<String> featureNames) {
         this.featureNames = featureNames;
@@ -31,6 +41,7 @@ public class ClusteringPanel extends JPanel {
         this.currentK = k;
         this.visFeatureXIndex = xIndex;
         this.visFeatureYIndex = yIndex;
+        pointLayer = null;
         repaint();
     }
 
@@ -48,7 +59,7 @@ public class ClusteringPanel extends JPanel {
 
         g2d.drawRect(plotXStart, plotYStart, plotWidth, plotHeight);
         g2d.setColor(Color.BLACK);
-        g2d.setFont(new Font("Arial", Font.BOLD, 14));
+        g2d.setFont(TITLE_FONT);
         g2d.drawString("2D Візуалізація Кластерів (K=" + currentK + ")", plotXStart, plotYStart - 10);
         g2d.drawString(featureNames.get(visFeatureXIndex) + " (Норм.)", plotXStart + plotWidth / 2 - 80, plotYStart + plotHeight + 30);
 
@@ -57,15 +68,13 @@ public class ClusteringPanel extends JPanel {
         g2d.drawString(featureNames.get(visFeatureYIndex) + " (Норм.)", -(plotYStart + plotHeight / 2 + 80), plotXStart - 25);
         g2d.rotate(Math.PI / 2);
 
-        for (DataPoint point : currentResult.getClusteredPoints()) {
-            double x = point.getFeatures()[visFeatureXIndex];
-            double y = point.getFeatures()[visFeatureYIndex];
-            int screenX = plotXStart + (int) (x * plotWidth);
-            int screenY = plotYStart + plotHeight - (int) (y * plotHeight);
-            int cid = point.getClusterId();
-            g2d.setColor((cid >= 0 && cid < CLUSTER_COLORS.length) ? CLUSTER_COLORS[cid] : Color.LIGHT_GRAY);
-            g2d.fillOval(screenX - DOT_SIZE / 2, screenY - DOT_SIZE / 2, DOT_SIZE, DOT_SIZE);
+        if (plotWidth <= 0 || plotHeight <= 0) return;
+        if (pointLayer == null || layerWidth != plotWidth || layerHeight != plotHeight) {
+            pointLayer = renderPoints(plotWidth, plotHeight);
+            layerWidth = plotWidth;
+            layerHeight = plotHeight;
         }
+        g2d.drawImage(pointLayer, plotXStart - DOT_SIZE, plotYStart - DOT_SIZE, null);
 
         g2d.setColor(Color.BLACK);
         g2d.setStroke(new BasicStroke(2));
@@ -77,4 +86,76 @@ public class ClusteringPanel extends JPanel {
             g2d.drawRect(screenX - DOT_SIZE, screenY - DOT_SIZE, DOT_SIZE * 2, DOT_SIZE * 2);
         }
     }
-}
\ No newline at end of file
+
+    private static Color clusterColor(int cid) {
+        if (cid < 0) return NOISE_COLOR;
+        return cid < CLUSTER_COLORS.length ? CLUSTER_COLORS[cid] : Color.LIGHT_GRAY;
+    }
+
+    // Шар з полями DOT_SIZE з кожного боку, щоб крайні точки не обрізались
+    private BufferedImage renderPoints(int plotWidth, int plotHeight) {
+        BufferedImage image = new BufferedImage(plotWidth + 2 * DOT_SIZE, plotHeight + 2 * DOT_SIZE, BufferedImage.TYPE_INT_ARGB);
+        int n = currentResult.size();
+        // Сумарна площа кружечків у кілька разів більша за графік — окремі точки вже не розрізнити
+        boolean dense = n > MAX_SCATTER_POINTS || (long) n * DOT_SIZE * DOT_SIZE > 4L * plotWidth * plotHeight;
+        if (dense) {
+            renderDensity(image, plotWidth, plotHeight);
+            return image;
+        }
+        Graphics2D g2d = image.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        for (int i = 0; i < n; i++) {
+            double x = currentResult.getFeature(i, visFeatureXIndex);
+            double y = currentResult.getFeature(i, visFeatureYIndex);
+            int screenX = DOT_SIZE + (int) (x * plotWidth);
+            int screenY = DOT_SIZE + plotHeight - (int) (y * plotHeight);
+            g2d.setColor(clusterColor(currentResult.getLabel(i)));
+            g2d.fillOval(screenX - DOT_SIZE / 2, screenY - DOT_SIZE / 2, DOT_SIZE, DOT_SIZE);
+        }
+        g2d.dispose();
+        return image;
+    }
+
+    // Комірки DENSITY_CELL x DENSITY_CELL: колір — середній колір кластерів точок у комірці,
+    // непрозорість — логарифм кількості точок (щоб поодинокі точки лишались видимими)
+    private void renderDensity(BufferedImage image, int plotWidth, int plotHeight) {
+        int width = image.getWidth(), height = image.getHeight();
+        int columns = (width + DENSITY_CELL - 1) / DENSITY_CELL;
+        int rows = (height + DENSITY_CELL - 1) / DENSITY_CELL;
+        int[] counts = new int[columns * rows];
+        long[] red = new long[counts.length], green = new long[counts.length], blue = new long[counts.length];
+        int maxCount = 0;
+        for (int i = 0, n = currentResult.size(); i < n; i++) {
+            double x = currentResult.getFeature(i, visFeatureXIndex);
+            double y = currentResult.getFeature(i, visFeatureYIndex);
+            int screenX = DOT_SIZE + (int) (x * plotWidth);
+            int screenY = DOT_SIZE + plotHeight - (int) (y * plotHeight);
+            if (screenX < 0 || screenY < 0 || screenX >= width || screenY >= height) continue;
+            int cell = (screenY / DENSITY_CELL) * columns + screenX / DENSITY_CELL;
+            Color color = clusterColor(currentResult.getLabel(i));
+            red[cell] += color.getRed();
+            green[cell] += color.getGreen();
+            blue[cell] += color.getBlue();
+            maxCount = Math.max(maxCount, ++counts[cell]);
+        }
+        if (maxCount == 0) return;
+        // Через setDataElements, а не доступ до буфера — зображення лишається придатним для прискореного виводу
+        int[] pixels = new int[width * height];
+        double logMax = Math.log1p(maxCount);
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                int cell = row * columns + column;
+                int count = counts[cell];
+                if (count == 0) continue;
+                int alpha = 80 + (int) (175 * Math.log1p(count) / logMax);
+                int argb = alpha << 24 | (int) (red[cell] / count) << 16 | (int) (green[cell] / count) << 8 | (int) (blue[cell] / count);
+                for (int py = row * DENSITY_CELL, yEnd = Math.min(height, py + DENSITY_CELL); py < yEnd; py++) {
+                    for (int px = column * DENSITY_CELL, xEnd = Math.min(width, px + DENSITY_CELL); px < xEnd; px++) {
+                        pixels[py * width + px] = argb;
+                    }
+                }
+            }
+        }
+        image.getRaster().setDataElements(0, 0, width, height, pixels);
+    }
+}
@@ -6,6 +6,8 @@ import java.awt.*;
 
 public class LegendPanel extends JPanel {
     private ClusterResult currentResult;
+    // Кількість точок шуму (мітка < 0, як у DBSCAN); рахується один раз на результат
+    private int noiseCount;
 
     public LegendPanel() {
         setPreferredSize(new Dimension(200, 0));
@@ -14,6 +16,11 @@ public class LegendPanel extends JPanel {
 
     public void updateData(ClusterResult result) {
         this.currentResult = result;
+        int noise = 0;
+        if (result != null) {
+            for (int label : result.getLabels()) if (label < 0) noise++;
+        }
+        noiseCount = noise;
         repaint();
     }
 
@@ -40,5 +47,13 @@ public class LegendPanel extends JPanel {
             g2d.setFont(new Font("Arial", Font.PLAIN, 12));
             g2d.drawString("Кластер " + (i + 1), 15 + colorBoxSize + 10, startY + i * 30 + 13);
         }
+        if (noiseCount > 0) {
+            int y = startY + count * 30;
+            g2d.setColor(ClusteringPanel.NOISE_COLOR);
+            g2d.fillRect(15, y, colorBoxSize, colorBoxSize);
+            g2d.setColor(Color.BLACK);
+            g2d.setFont(new Font("Arial", Font.PLAIN, 12));
+            g2d.drawString("Шум (" + noiseCount + ")", 15 + colorBoxSize + 10, y + 13);
+        }
     }
 }
\ No newline at end of file
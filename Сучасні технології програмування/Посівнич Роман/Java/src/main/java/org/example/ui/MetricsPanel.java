@@ -3,6 +3,7 @@ package org.example.ui;
 import javax.swing.*;
 import java.awt.*;
 import java.util.Map;
+import java.util.TreeMap;
 
 public class MetricsPanel extends JPanel {
     private Map<Integer, Double> silScores;
@@ -13,6 +14,17 @@ public class MetricsPanel extends JPanel {
         setLayout(new GridLayout(2, 1, 10, 10));
     }
 
+    // Початок потокового оновлення: графіки очищуються і доповнюються через putMetric
+    public void beginSweep(int currentK) {
+        updateMetrics(new TreeMap<>(), new TreeMap<>(), currentK);
+    }
+
+    public void putMetric(int k, double silhouette, double calinskiHarabasz) {
+        silScores.put(k, silhouette);
+        chScores.put(k, calinskiHarabasz);
+        repaint();
+    }
+
     public void updateMetrics(Map<Integer, Double> silScores, Map<Integer, Double> chScores, int currentK) {
         this.silScores = silScores;
         this.chScores = chScores;
@@ -1,7 +1,9 @@
 package org.example.ui;
 
+import org.example.model.ClusterProfile;
 import org.example.model.ClusterResult;
 import org.example.model.DataPoint;
+import org.example.model.FeatureSummary;
 import javax.swing.*;
 import java.awt.*;
 import java.util.List;
@@ -12,6 +14,7 @@ public class ResultFormPanel extends JPanel {
     private final JLabel calinskiLabel;
     private final JTextArea centroidArea;
     private final List<String> featureNames;
+    private String profileError;
 
     public ResultFormPanel(List<String> featureNames) {
         this.featureNames = featureNames;
@@ -34,7 +37,10 @@ public class ResultFormPanel extends JPanel {
         add(scroll, BorderLayout.CENTER);
     }
 
-    public void updateResults(ClusterResult result, int k, Map<Integer, Double> silScores, Map<Integer, Double> chScores) {
+    // profile — готовий профіль (наприклад, за вихідними ознаками); панель лише форматує k x d рядків.
+    // null — профіль ще обчислюється або не обчислився (setProfileError)
+    public void updateResults(ClusterResult result, int k, ClusterProfile profile,
+                              Map<Integer, Double> silScores, Map<Integer, Double> chScores) {
         ((javax.swing.border.TitledBorder) getBorder()).setTitle("Числові Результати (K=" + k + ")");
         silhouetteLabel.setText(String.format("Силует: %.4f", silScores.getOrDefault(k, 0.0)));
         calinskiLabel.setText(String.format("Кал.-Харабаш: %.4f", chScores.getOrDefault(k, 0.0)));
@@ -51,6 +57,34 @@ public class ResultFormPanel extends JPanel {
             sb.append("\n\n");
             c++;
         }
+        appendProfile(sb, profile);
         centroidArea.setText(sb.toString());
+        centroidArea.setCaretPosition(0);
+    }
+
+    // Причина, з якої профіль не вдалося обчислити; null — помилки немає
+    public void setProfileError(String profileError) { this.profileError = profileError; }
+
+    private void appendProfile(StringBuilder sb, ClusterProfile profile) {
+        sb.append("Профілі кластерів:\n------------------\n");
+        if (profile == null) {
+            sb.append(profileError == null ? "обчислюються...\n" : "не вдалося обчислити: " + profileError + "\n");
+            return;
+        }
+        for (int c = 0; c < profile.getClusterCount(); c++) {
+            FeatureSummary summary = profile.getSummary(c);
+            sb.append(String.format("C%d: %d точок\n", c + 1, summary.getCount()));
+            if (summary.getCount() == 0) continue;
+            for (int i = 0; i < featureNames.size(); i++) {
+                sb.append(String.format("  %s: %.2f ± %.2f [%.2f … %.2f]", featureNames.get(i), summary.getMean(i),
+                        summary.getStandardDeviation(i), summary.getMin(i), summary.getMax(i)));
+                if (summary.hasQuantiles()) {
+                    sb.append(String.format(", медіана %.2f (IQR %.2f–%.2f)", summary.getQuantile(i, 0.5),
+                            summary.getQuantile(i, 0.25), summary.getQuantile(i, 0.75)));
+                }
+                sb.append('\n');
+            }
+            sb.append('\n');
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package org.example.algo;
+
+import org.example.model.Dataset;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Порівняння з DBSCAN на повному переборі сусідів O(n^2) з тими самими правилами міток:
+// кластери в порядку найменшого ядра, межова точка — до кластера ядра-сусіда з найменшим індексом
+class DbscanClustererTest {
+
+    @Test
+    void matchesBruteForceInTwoDimensions() {
+        assertMatchesBruteForce(clustered(3_000, 2, 6, 21), 0.35, 5, 1);
+    }
+
+    @Test
+    void matchesBruteForceWithBallTree() {
+        // d > KD_TREE_MAX_DIMENSION — пошук через кульове дерево
+        assertMatchesBruteForce(clustered(2_000, 12, 4, 22), 2.2, 4, 1);
+    }
+
+    @Test
+    void matchesBruteForceAcrossParameters() {
+        Dataset data = clustered(1_500, 3, 5, 23);
+        for (double eps : new double[]{0.0, 0.2, 0.5, 1.0}) {
+            for (int minPoints : new int[]{1, 3, 10}) assertMatchesBruteForce(data, eps, minPoints, 1);
+        }
+    }
+
+    @Test
+    void labelsDoNotDependOnParallelism() {
+        // Кілька блоків по BLOCK_ROWS рядків
+        Dataset data = clustered(12_000, 2, 8, 24);
+        int[] sequential = new DbscanClusterer(data.copy(), 0.25, 6, 1).fit().clone();
+        int[] parallel = new DbscanClusterer(data.copy(), 0.25, 6, 4).fit();
+        assertArrayEquals(sequential, parallel);
+        assertMatchesBruteForce(data, 0.25, 6, 4);
+    }
+
+    @Test
+    void interruptedCallerCancelsFit() {
+        DbscanClusterer dbscan = new DbscanClusterer(clustered(10_000, 2, 4, 25), 0.3, 5, 2);
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CancellationException.class, dbscan::fit);
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    private static void assertMatchesBruteForce(Dataset data, double eps, int minPoints, int parallelism) {
+        int n = data.size();
+        int[][] neighbours = bruteForceNeighbours(data, eps);
+        boolean[] core = new boolean[n];
+        for (int p = 0; p < n; p++) core[p] = neighbours[p].length >= minPoints;
+
+        int[] expected = new int[n];
+        Arrays.fill(expected, DbscanClusterer.NOISE);
+        int clusters = 0;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int p = 0; p < n; p++) {
+            if (!core[p] || expected[p] != DbscanClusterer.NOISE) continue;
+            int cluster = clusters++;
+            expected[p] = cluster;
+            queue.add(p);
+            while (!queue.isEmpty()) {
+                int q = queue.poll();
+                for (int r : neighbours[q]) {
+                    if (core[r] && expected[r] == DbscanClusterer.NOISE) {
+                        expected[r] = cluster;
+                        queue.add(r);
+                    }
+                }
+            }
+        }
+        int noise = 0;
+        for (int p = 0; p < n; p++) {
+            if (core[p]) continue;
+            // Сусіди перелічені за зростанням індексу — перше ядро і є найменшим
+            for (int q : neighbours[p]) {
+                if (core[q]) {
+                    expected[p] = expected[q];
+                    break;
+                }
+            }
+            if (expected[p] == DbscanClusterer.NOISE) noise++;
+        }
+
+        DbscanClusterer dbscan = new DbscanClusterer(data.copy(), eps, minPoints, parallelism);
+        int[] labels = dbscan.fit();
+        String context = "eps " + eps + ", minPoints " + minPoints;
+        for (int p = 0; p < n; p++) assertEquals(core[p], dbscan.isCore(p), "core " + p + ", " + context);
+        assertArrayEquals(expected, labels, context);
+        assertEquals(clusters, dbscan.getClusterCount(), context);
+        assertEquals(noise, dbscan.getNoiseCount(), context);
+    }
+
+    // Сусіди в радіусі eps (включно з самою точкою) за зростанням індексу
+    private static int[][] bruteForceNeighbours(Dataset data, double eps) {
+        int n = data.size(), d = data.dimension();
+        double[] values = data.values();
+        double squaredEps = eps * eps;
+        int[][] neighbours = new int[n][];
+        int[] buffer = new int[n];
+        for (int p = 0; p < n; p++) {
+            int count = 0;
+            for (int q = 0; q < n; q++) {
+                double sum = 0;
+                for (int j = 0; j < d; j++) {
+                    double diff = values[p * d + j] - values[q * d + j];
+                    sum += diff * diff;
+                }
+                if (sum <= squaredEps) buffer[count++] = q;
+            }
+            neighbours[p] = Arrays.copyOf(buffer, count);
+        }
+        return neighbours;
+    }
+
+    // Щільні хмари навколо k центрів плюс 10% рівномірного шуму
+    private static Dataset clustered(int n, int d, int k, long seed) {
+        Random random = new Random(seed);
+        double[] centers = new double[k * d];
+        for (int i = 0; i < centers.length; i++) centers[i] = random.nextDouble() * 10;
+        double[] values = new double[n * d];
+        for (int p = 0; p < n; p++) {
+            boolean noise = random.nextInt(10) == 0;
+            int c = random.nextInt(k);
+            for (int j = 0; j < d; j++) {
+                values[p * d + j] = noise ? random.nextDouble() * 10 : centers[c * d + j] + random.nextGaussian() * 0.5;
+            }
+        }
+        return new Dataset(values, n, d);
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.algo;
+
+import org.example.model.Dataset;
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Hamerly лише пропускає відстані, які не можуть змінити призначення, тож з тим самим зерном
+// мітки й центроїди мають збігатися з Ллойдом точно
+class HamerlyKMeansClustererTest {
+    private static final int MAX_ITERATIONS = 100;
+
+    @Test
+    void matchesLloydOnLowDimensionalBlobs() {
+        assertSameAsLloyd(blobs(3_000, 2, 6, 11), 6, 42, 1);
+    }
+
+    @Test
+    void matchesLloydOnVectorisedDimension() {
+        assertSameAsLloyd(blobs(3_000, 8, 5, 12), 5, 7, 1);
+    }
+
+    @Test
+    void matchesLloydAcrossSeeds() {
+        Dataset data = blobs(2_000, 3, 8, 13);
+        for (long seed = 0; seed < 5; seed++) assertSameAsLloyd(data, 8, seed, 1);
+    }
+
+    @Test
+    void matchesLloydWithSeveralBlocksInParallel() {
+        // Понад MIN_BLOCK_ROWS рядків — кілька блоків, злиття сум у порядку блоків
+        assertSameAsLloyd(blobs(20_000, 4, 10, 14), 10, 3, 3);
+    }
+
+    @Test
+    void skipsDistanceComputations() {
+        Dataset data = blobs(5_000, 2, 6, 15);
+        HamerlyKMeansClusterer hamerly = new HamerlyKMeansClusterer(data.copy(), 6, MAX_ITERATIONS);
+        hamerly.setSeed(1);
+        hamerly.fit();
+        assertTrue(hamerly.getSkippedDistanceComputations() > 0);
+    }
+
+    private static void assertSameAsLloyd(Dataset data, int k, long seed, int parallelism) {
+        KMeansClusterer lloyd = new KMeansClusterer(data.copy(), k, MAX_ITERATIONS, parallelism);
+        lloyd.setSeed(seed);
+        int[] lloydLabels = lloyd.fit();
+
+        HamerlyKMeansClusterer hamerly = new HamerlyKMeansClusterer(data.copy(), k, MAX_ITERATIONS, parallelism);
+        hamerly.setSeed(seed);
+        int[] hamerlyLabels = hamerly.fit();
+
+        assertArrayEquals(lloydLabels, hamerlyLabels, "labels, seed " + seed);
+        assertArrayEquals(lloyd.getCentroidValues(), hamerly.getCentroidValues(), 0.0, "centroids, seed " + seed);
+        assertEquals(lloyd.getRunStatistics().getIterations(), hamerly.getRunStatistics().getIterations());
+    }
+
+    // Гаусові хмари навколо k випадкових центрів у [0, 10)^d
+    private static Dataset blobs(int n, int d, int k, long seed) {
+        Random random = new Random(seed);
+        double[] centers = new double[k * d];
+        for (int i = 0; i < centers.length; i++) centers[i] = random.nextDouble() * 10;
+        double[] values = new double[n * d];
+        for (int p = 0; p < n; p++) {
+            int c = random.nextInt(k);
+            for (int j = 0; j < d; j++) values[p * d + j] = centers[c * d + j] + random.nextGaussian() * 0.8;
+        }
+        return new Dataset(values, n, d);
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.algo;
+
+import org.example.model.Dataset;
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// На скалярному шляху призначення через дерево має давати ті самі мітки й центроїди, що й перебір усіх k
+class IndexedAssignmentTest {
+    private static final int MAX_ITERATIONS = 50;
+
+    @Test
+    void matchesBruteForceWithManyCentroids() {
+        int d = scalarDimension();
+        assertSameAsBruteForce(uniform(20_000, d, 101), 64, 1);
+    }
+
+    @Test
+    void matchesBruteForceInParallel() {
+        int d = scalarDimension();
+        assertSameAsBruteForce(uniform(30_000, d, 102), 100, 3);
+    }
+
+    @Test
+    void matchesBruteForceWithRestarts() {
+        Dataset data = uniform(5_000, scalarDimension(), 103);
+        KMeansClusterer plain = new KMeansClusterer(data.copy(), 40, MAX_ITERATIONS, 2);
+        KMeansClusterer indexed = new KMeansClusterer(data.copy(), 40, MAX_ITERATIONS, 2);
+        for (KMeansClusterer clusterer : new KMeansClusterer[]{plain, indexed}) clusterer.setRestarts(3);
+        indexed.setIndexedAssignment(true);
+        assertArrayEquals(plain.fit(), indexed.fit());
+        assertArrayEquals(plain.getRestartSummary().getInertias(), indexed.getRestartSummary().getInertias(), 0.0);
+    }
+
+    @Test
+    void predictMatchesNearestCentroid() {
+        int d = 3;
+        KMeansClusterer clusterer = new KMeansClusterer(uniform(5_000, d, 104), 30, MAX_ITERATIONS);
+        clusterer.fit();
+        double[] centroids = clusterer.getCentroidValues();
+        Random random = new Random(105);
+        for (int i = 0; i < 2_000; i++) {
+            double[] row = {random.nextDouble() * 10, random.nextDouble() * 10, random.nextDouble() * 10};
+            int expected = 0;
+            for (int c = 1; c < 30; c++) {
+                if (squared(row, centroids, c, d) < squared(row, centroids, expected, d)) expected = c;
+            }
+            assertEquals(expected, clusterer.predict(row));
+        }
+        assertThrows(IllegalArgumentException.class, () -> clusterer.predict(new double[2]));
+    }
+
+    private static void assertSameAsBruteForce(Dataset data, int k, int parallelism) {
+        KMeansClusterer plain = new KMeansClusterer(data.copy(), k, MAX_ITERATIONS, parallelism);
+        plain.setSeed(5);
+        int[] plainLabels = plain.fit();
+
+        KMeansClusterer indexed = new KMeansClusterer(data.copy(), k, MAX_ITERATIONS, parallelism);
+        indexed.setSeed(5);
+        indexed.setIndexedAssignment(true);
+        int[] indexedLabels = indexed.fit();
+
+        assertArrayEquals(plainLabels, indexedLabels);
+        assertArrayEquals(plain.getCentroidValues(), indexed.getCentroidValues(), 0.0);
+        assertEquals(plain.getRunStatistics().getIterations(), indexed.getRunStatistics().getIterations());
+    }
+
+    // Дерево рахує відстані скалярно — порівнюємо на розмірності, коротшій за векторне ядро
+    private static int scalarDimension() {
+        return Distances.VECTORIZED ? Math.min(3, VectorKernels.LANES - 1) : 3;
+    }
+
+    private static double squared(double[] row, double[] centroids, int c, int d) {
+        double sum = 0;
+        for (int j = 0; j < d; j++) sum += (row[j] - centroids[c * d + j]) * (row[j] - centroids[c * d + j]);
+        return sum;
+    }
+
+    private static Dataset uniform(int n, int d, long seed) {
+        Random random = new Random(seed);
+        double[] values = new double[n * d];
+        for (int i = 0; i < values.length; i++) values[i] = random.nextDouble() * 10;
+        return new Dataset(values, n, d);
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.algo;
+
+import org.example.model.Dataset;
+import org.example.model.RestartSummary;
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Перезапуск r — той самий запуск, що й окремий fit() із зерном seed + r; залишається найменша інерція
+class KMeansRestartsTest {
+    private static final int K = 8, RESTARTS = 6, MAX_ITERATIONS = 100;
+
+    @Test
+    void keepsRestartWithLowestInertia() {
+        Dataset data = blobs(4_000, 81);
+        double[] inertias = new double[RESTARTS];
+        for (int r = 0; r < RESTARTS; r++) inertias[r] = single(data, 10 + r, null).getStatistics().getInertia();
+
+        KMeansClusterer restarted = restarted(data, 10, 1, null);
+        RestartSummary summary = restarted.getRestartSummary();
+        assertEquals(RESTARTS, summary.getCompleted());
+        assertEquals(0, summary.getAbandoned());
+        assertArrayEquals(inertias, summary.getInertias(), 0.0);
+        // Інакше вибір найкращого нічого не перевіряє
+        assertTrue(summary.getMax() > summary.getMin() * 1.01, summary.toString());
+
+        int best = 0;
+        for (int r = 1; r < RESTARTS; r++) if (inertias[r] < inertias[best]) best = r;
+        assertEquals(best, summary.getBestRestart());
+        assertEquals(10 + best, summary.getBestSeed());
+        assertEquals(summary.getMin(), restarted.getStatistics().getInertia());
+
+        KMeansClusterer winner = single(data, 10 + best, null);
+        assertArrayEquals(winner.getCentroidValues(), restarted.getCentroidValues(), 0.0);
+        assertArrayEquals(winner.getDataset().labels(), restarted.getDataset().labels());
+    }
+
+    @Test
+    void parallelRestartsMatchSequential() {
+        Dataset data = blobs(4_000, 82);
+        KMeansClusterer sequential = restarted(data, 3, 1, null);
+        KMeansClusterer parallel = restarted(data, 3, 4, null);
+        assertArrayEquals(sequential.getRestartSummary().getInertias(), parallel.getRestartSummary().getInertias(), 0.0);
+        assertArrayEquals(sequential.getCentroidValues(), parallel.getCentroidValues(), 0.0);
+        assertArrayEquals(sequential.getDataset().labels(), parallel.getDataset().labels());
+    }
+
+    @Test
+    void warmStartIsRestartZero() {
+        Dataset data = blobs(4_000, 83);
+        double[] warm = single(data, 99, null).getCentroidValues();
+        KMeansClusterer restarted = restarted(data, 20, 2, warm);
+        RestartSummary summary = restarted.getRestartSummary();
+        assertEquals(RESTARTS, summary.getCompleted());
+        assertEquals(single(data, 20, warm).getStatistics().getInertia(), summary.getInertias()[0]);
+        assertEquals(single(data, 21, null).getStatistics().getInertia(), summary.getInertias()[1]);
+        assertTrue(restarted.getStatistics().getInertia() <= summary.getInertias()[0]);
+    }
+
+    @Test
+    void pruningStillKeepsBestCompletedRun() {
+        Dataset data = blobs(4_000, 84);
+        KMeansClusterer clusterer = new KMeansClusterer(data.copy(), K, MAX_ITERATIONS);
+        clusterer.setSeeding(CentroidSeeding.random());
+        clusterer.setRestarts(RESTARTS);
+        clusterer.setRestartPruning(true);
+        clusterer.fit();
+        RestartSummary summary = clusterer.getRestartSummary();
+        assertEquals(RESTARTS, summary.getCompleted() + summary.getAbandoned());
+        assertEquals(summary.getMin(), clusterer.getStatistics().getInertia());
+    }
+
+    @Test
+    void singleRunHasNoSummaryAndRejectsZeroRestarts() {
+        KMeansClusterer clusterer = single(blobs(500, 85), 1, null);
+        assertNull(clusterer.getRestartSummary());
+        assertThrows(IllegalArgumentException.class, () -> clusterer.setRestarts(0));
+    }
+
+    private static KMeansClusterer single(Dataset data, long seed, double[] initial) {
+        KMeansClusterer clusterer = new KMeansClusterer(data.copy(), K, MAX_ITERATIONS);
+        clusterer.setSeeding(CentroidSeeding.random());
+        clusterer.setSeed(seed);
+        clusterer.setInitialCentroids(initial);
+        clusterer.fit();
+        return clusterer;
+    }
+
+    private static KMeansClusterer restarted(Dataset data, long seed, int parallelism, double[] initial) {
+        KMeansClusterer clusterer = new KMeansClusterer(data.copy(), K, MAX_ITERATIONS, parallelism);
+        clusterer.setSeeding(CentroidSeeding.random());
+        clusterer.setSeed(seed);
+        clusterer.setInitialCentroids(initial);
+        clusterer.setRestarts(RESTARTS);
+        clusterer.fit();
+        return clusterer;
+    }
+
+    // Випадкова ініціалізація на хмарах, що частково перекриваються, — інерція помітно різниться між зернами
+    private static Dataset blobs(int n, long seed) {
+        Random random = new Random(seed);
+        double[] centers = new double[K * 2];
+        for (int i = 0; i < centers.length; i++) centers[i] = random.nextDouble() * 10;
+        double[] values = new double[n * 2];
+        for (int p = 0; p < n; p++) {
+            int c = random.nextInt(K);
+            for (int j = 0; j < 2; j++) values[p * 2 + j] = centers[c * 2 + j] + random.nextGaussian() * 0.7;
+        }
+        return new Dataset(values, n, 2);
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.algo;
+
+import org.example.model.Dataset;
+import org.example.model.RowSource;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// На рознесених хмарах mini-batch має знаходити їхні центри; потік за замовчуванням читається до кінця
+class MiniBatchKMeansTest {
+    private static final int K = 4, D = 2;
+
+    @Test
+    void recoversBlobCentersFromDataset() {
+        Dataset data = blobs(20_000, 61);
+        MiniBatchKMeans model = new MiniBatchKMeans(K, 256);
+        model.setSeed(3);
+        model.fit(data);
+        assertEquals(K, model.getCentroidCount());
+        assertNearCenters(model.getCentroidValues());
+
+        int[] labels = model.assign(data);
+        for (int p = 0; p < data.size(); p++) assertEquals(model.predict(data.getRow(p)), labels[p]);
+    }
+
+    @Test
+    void recoversBlobCentersFromStream() throws Exception {
+        Dataset data = blobs(20_000, 62);
+        CountingSource source = new CountingSource(data);
+        MiniBatchKMeans model = new MiniBatchKMeans(K, 100);
+        model.fit(source);
+        // 200 пакетів — більше за DEFAULT_SAMPLED_BATCHES, але потік дочитано
+        assertEquals(data.size(), source.rowsRead);
+        assertNearCenters(model.getCentroidValues());
+    }
+
+    @Test
+    void maxBatchesLimitsStream() throws Exception {
+        CountingSource source = new CountingSource(blobs(5_000, 63));
+        MiniBatchKMeans model = new MiniBatchKMeans(K, 100);
+        model.setMaxBatches(3);
+        model.fit(source);
+        assertEquals(300, source.rowsRead);
+        assertThrows(IllegalArgumentException.class, () -> model.setMaxBatches(-1));
+    }
+
+    @Test
+    void partialFitContinuesAfterReset() {
+        Dataset data = blobs(10_000, 64);
+        MiniBatchKMeans model = new MiniBatchKMeans(K, 500);
+        assertThrows(IllegalStateException.class, () -> model.partialFit(new double[D], 1));
+        model.reset(D);
+        double[] values = data.values();
+        for (int from = 0; from < data.size(); from += 500) {
+            double[] batch = Arrays.copyOfRange(values, from * D, (from + 500) * D);
+            model.partialFit(batch, 500);
+        }
+        assertNearCenters(model.getCentroidValues());
+        assertThrows(IllegalArgumentException.class, () -> model.reset(0));
+    }
+
+    // Кожен справжній центр має центроїд ближче за 0.3
+    static void assertNearCenters(double[] centroids) {
+        for (int c = 0; c < K; c++) {
+            double best = Double.MAX_VALUE;
+            for (int i = 0; i < centroids.length / D; i++) {
+                double dx = centroids[i * D] - center(c, 0), dy = centroids[i * D + 1] - center(c, 1);
+                best = Math.min(best, Math.sqrt(dx * dx + dy * dy));
+            }
+            assertTrue(best < 0.3, "center " + c + ": nearest centroid at " + best);
+        }
+    }
+
+    static double center(int cluster, int feature) {
+        return feature == 0 ? 10.0 * (cluster % 2) : 10.0 * (cluster / 2);
+    }
+
+    // Рядки перемішані: мітка кожної точки випадкова
+    static Dataset blobs(int n, long seed) {
+        Random random = new Random(seed);
+        double[] values = new double[n * D];
+        for (int p = 0; p < n; p++) {
+            int c = random.nextInt(K);
+            for (int j = 0; j < D; j++) values[p * D + j] = center(c, j) + 0.5 * random.nextGaussian();
+        }
+        return new Dataset(values, n, D);
+    }
+
+    private static final class CountingSource implements RowSource {
+        private final Dataset data;
+        private int rowsRead;
+
+        CountingSource(Dataset data) { this.data = data; }
+
+        @Override
+        public int dimension() { return data.dimension(); }
+
+        @Override
+        public int read(double[] buffer, int maxRows) {
+            int rows = Math.min(maxRows, data.size() - rowsRead);
+            System.arraycopy(data.values(), rowsRead * D, buffer, 0, rows * D);
+            rowsRead += rows;
+            return rows;
+        }
+    }
+}
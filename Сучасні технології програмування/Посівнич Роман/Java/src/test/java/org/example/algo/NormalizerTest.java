@@ -0,0 +1,128 @@
+package org.example.algo;
+
+import org.example.model.Dataset;
+import org.example.model.FeatureSummary;
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Статистики з блоків, злитих за Чаном, мають збігатися з одним послідовним проходом,
+// а нормалізовані стовпці — мати обіцяні межі, середнє чи медіану
+class NormalizerTest {
+
+    @Test
+    void mergedSummaryMatchesSinglePass() {
+        Dataset data = columns(10_000, 4, 41);
+        FeatureSummary single = new FeatureSummary(4, false);
+        for (int p = 0; p < data.size(); p++) single.add(data.values(), data.offset(p));
+
+        // Нерівні частини, включно з порожньою
+        FeatureSummary merged = new FeatureSummary(4, false);
+        int[] bounds = {0, 1, 1, 2_500, 7_777, 10_000};
+        for (int i = 0; i + 1 < bounds.length; i++) {
+            FeatureSummary part = new FeatureSummary(4, false);
+            for (int p = bounds[i]; p < bounds[i + 1]; p++) part.add(data.values(), data.offset(p));
+            merged.merge(part);
+        }
+        assertSameSummary(single, merged);
+        // Кілька блоків по BLOCK_ROWS рядків у паралельному проході
+        assertSameSummary(single, Normalizer.summarize(data, false));
+    }
+
+    @Test
+    void summaryMatchesDirectFormulas() {
+        Dataset data = columns(5_000, 3, 42);
+        FeatureSummary summary = Normalizer.summarize(data, false);
+        for (int j = 0; j < 3; j++) {
+            double min = Double.MAX_VALUE, max = -Double.MAX_VALUE, sum = 0;
+            for (int p = 0; p < data.size(); p++) {
+                min = Math.min(min, data.get(p, j));
+                max = Math.max(max, data.get(p, j));
+                sum += data.get(p, j);
+            }
+            double mean = sum / data.size(), squares = 0;
+            for (int p = 0; p < data.size(); p++) squares += (data.get(p, j) - mean) * (data.get(p, j) - mean);
+            assertEquals(min, summary.getMin(j));
+            assertEquals(max, summary.getMax(j));
+            assertEquals(mean, summary.getMean(j), 1e-9 * Math.abs(mean) + 1e-12);
+            assertEquals(squares / data.size(), summary.getVariance(j), 1e-9 * squares / data.size());
+        }
+    }
+
+    @Test
+    void minMaxMapsColumnsToUnitInterval() {
+        Dataset data = new Normalizer(Normalizer.Mode.MIN_MAX).fitTransform(columns(6_000, 3, 43));
+        FeatureSummary summary = Normalizer.summarize(data, false);
+        for (int j = 0; j < 3; j++) {
+            assertEquals(0.0, summary.getMin(j), 1e-12);
+            assertEquals(1.0, summary.getMax(j), 1e-12);
+        }
+    }
+
+    @Test
+    void zScoreCentresAndScalesColumns() {
+        Dataset data = new Normalizer(Normalizer.Mode.Z_SCORE).fitTransform(columns(6_000, 3, 44));
+        FeatureSummary summary = Normalizer.summarize(data, false);
+        for (int j = 0; j < 3; j++) {
+            assertEquals(0.0, summary.getMean(j), 1e-9);
+            assertEquals(1.0, summary.getStandardDeviation(j), 1e-9);
+        }
+    }
+
+    @Test
+    void robustCentresMedianDespiteOutliers() {
+        Dataset data = columns(6_000, 2, 45);
+        for (int p = 0; p < 60; p++) data.set(p, 0, 1e9);
+        new Normalizer(Normalizer.Mode.ROBUST).fitTransform(data);
+        FeatureSummary summary = Normalizer.summarize(data, true);
+        for (int j = 0; j < 2; j++) {
+            // Ескіз квантилів наближений — медіана близька до 0, IQR до 1
+            assertEquals(0.0, summary.getQuantile(j, 0.5), 0.05);
+            assertEquals(1.0, summary.getQuantile(j, 0.75) - summary.getQuantile(j, 0.25), 0.1);
+        }
+    }
+
+    @Test
+    void inverseTransformRestoresRowsAndConstantColumnIsShifted() {
+        Dataset data = columns(1_000, 3, 46);
+        for (int p = 0; p < data.size(); p++) data.set(p, 2, 7.5);
+        double[] original = data.values().clone();
+        Normalizer normalizer = new Normalizer(Normalizer.Mode.Z_SCORE).fit(data);
+        assertEquals(1.0, normalizer.getScales()[2]);
+        normalizer.transform(data);
+        assertEquals(0.0, data.get(10, 2));
+        assertArrayEquals(original, normalizer.inverseTransform(data.values().clone()), 1e-9);
+    }
+
+    @Test
+    void rejectsUnfittedAndMismatchedRows() {
+        Normalizer normalizer = new Normalizer(Normalizer.Mode.MIN_MAX);
+        assertThrows(IllegalStateException.class, () -> normalizer.transform(new double[3]));
+        normalizer.fit(columns(100, 3, 47));
+        assertThrows(IllegalArgumentException.class, () -> normalizer.transform(new double[4]));
+        assertThrows(IllegalArgumentException.class, () -> new FeatureSummary(3, false).merge(new FeatureSummary(2, false)));
+    }
+
+    private static void assertSameSummary(FeatureSummary expected, FeatureSummary actual) {
+        assertEquals(expected.getCount(), actual.getCount());
+        for (int j = 0; j < expected.getDimension(); j++) {
+            assertEquals(expected.getMin(j), actual.getMin(j));
+            assertEquals(expected.getMax(j), actual.getMax(j));
+            assertEquals(expected.getMean(j), actual.getMean(j), 1e-9 * Math.abs(expected.getMean(j)) + 1e-12);
+            assertEquals(expected.getVariance(j), actual.getVariance(j), 1e-9 * expected.getVariance(j));
+        }
+    }
+
+    // Стовпці різного масштабу й зсуву: j-й має середнє 1000 * j і розкид 10^j
+    private static Dataset columns(int n, int d, long seed) {
+        Random random = new Random(seed);
+        double[] values = new double[n * d];
+        for (int p = 0; p < n; p++) {
+            for (int j = 0; j < d; j++) values[p * d + j] = 1000.0 * j + Math.pow(10, j) * random.nextGaussian();
+        }
+        return new Dataset(values, n, d);
+    }
+}
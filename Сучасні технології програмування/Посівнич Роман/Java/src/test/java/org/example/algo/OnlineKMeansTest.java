@@ -0,0 +1,90 @@
+package org.example.algo;
+
+import org.example.model.Dataset;
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Без загасання центроїд — точне ковзне середнє своїх точок; із загасанням модель іде за дрейфом
+class OnlineKMeansTest {
+
+    @Test
+    void withoutDecayCentroidsAreRunningMeans() {
+        // Перші точки — по одній з кожної хмари, тож кожна хмара отримує свій центроїд
+        Dataset data = MiniBatchKMeansTest.blobs(8_000, 71);
+        OnlineKMeans model = new OnlineKMeans(4, 1.0);
+        for (int c = 0; c < 4; c++) {
+            model.update(new double[]{MiniBatchKMeansTest.center(c, 0), MiniBatchKMeansTest.center(c, 1)});
+        }
+        model.update(data.values(), data.size());
+
+        double[] sums = new double[8];
+        int[] counts = {1, 1, 1, 1};
+        for (int c = 0; c < 4; c++) {
+            sums[c * 2] = MiniBatchKMeansTest.center(c, 0);
+            sums[c * 2 + 1] = MiniBatchKMeansTest.center(c, 1);
+        }
+        OnlineKMeans.Snapshot snapshot = model.snapshot();
+        for (int p = 0; p < data.size(); p++) {
+            int c = snapshot.predict(data.getRow(p));
+            counts[c]++;
+            sums[c * 2] += data.get(p, 0);
+            sums[c * 2 + 1] += data.get(p, 1);
+        }
+        double[] centroids = snapshot.getCentroidValues();
+        for (int c = 0; c < 4; c++) {
+            assertEquals(counts[c], snapshot.getWeight(c), 1e-6);
+            assertEquals(sums[c * 2] / counts[c], centroids[c * 2], 1e-9);
+            assertEquals(sums[c * 2 + 1] / counts[c], centroids[c * 2 + 1], 1e-9);
+        }
+        MiniBatchKMeansTest.assertNearCenters(centroids);
+        assertEquals(data.size() + 4, snapshot.getPointsSeen());
+    }
+
+    @Test
+    void decayFollowsDrift() {
+        Random random = new Random(72);
+        OnlineKMeans model = new OnlineKMeans(1, OnlineKMeans.decayForHalfLife(100));
+        for (int i = 0; i < 5_000; i++) model.update(new double[]{random.nextGaussian()});
+        for (int i = 0; i < 2_000; i++) model.update(new double[]{20 + random.nextGaussian()});
+        double drifted = model.snapshot().getCentroidValues()[0];
+        assertEquals(20, drifted, 0.5);
+        // Ефективна вага обмежена 1 / (1 - decay), а не кількістю точок
+        assertTrue(model.snapshot().getWeight(0) < 200);
+
+        OnlineKMeans remembering = new OnlineKMeans(1, 1.0);
+        random = new Random(72);
+        for (int i = 0; i < 5_000; i++) remembering.update(new double[]{random.nextGaussian()});
+        for (int i = 0; i < 2_000; i++) remembering.update(new double[]{20 + random.nextGaussian()});
+        assertEquals(20.0 * 2_000 / 7_000, remembering.snapshot().getCentroidValues()[0], 0.1);
+    }
+
+    @Test
+    void snapshotsAreImmutable() {
+        OnlineKMeans model = new OnlineKMeans(2, 0.99);
+        assertEquals(-1, model.snapshot().predict(new double[]{1, 2}));
+        model.update(new double[]{0, 0});
+        model.update(new double[]{10, 10});
+        OnlineKMeans.Snapshot before = model.snapshot();
+        double[] centroids = before.getCentroidValues();
+        for (int i = 0; i < 100; i++) model.update(new double[]{1, 1});
+        assertArrayEquals(centroids, before.getCentroidValues());
+        assertEquals(2, before.getPointsSeen());
+        assertEquals(102, model.snapshot().getPointsSeen());
+    }
+
+    @Test
+    void rejectsMismatchedRows() {
+        OnlineKMeans model = new OnlineKMeans(2, 1.0);
+        assertThrows(IllegalStateException.class, () -> model.update(new double[4], 2));
+        model.update(new double[]{1, 2});
+        assertThrows(IllegalArgumentException.class, () -> model.update(new double[]{1, 2, 3}));
+        assertThrows(IllegalArgumentException.class, () -> model.snapshot().predict(new double[]{1}));
+        assertThrows(IllegalArgumentException.class, () -> new OnlineKMeans(2, 0));
+        assertThrows(IllegalArgumentException.class, () -> new OnlineKMeans(0, 1.0));
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.algo;
+
+import org.example.model.Dataset;
+import org.example.model.SilhouetteEstimate;
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Точний силует порівнюється з прямою формулою O(n^2); вибірковий і спрощений — з точним
+class SilhouetteCalculatorTest {
+
+    @Test
+    void exactMatchesBruteForce() {
+        Dataset data = labelledBlobs(900, 3, 4, 31);
+        // Кілька непризначених точок не враховуються
+        for (int p = 0; p < 900; p += 97) data.setLabel(p, -1);
+        assertEquals(bruteForce(data), new SilhouetteCalculator(1).calculateOverallSilhouette(data), 1e-12);
+    }
+
+    @Test
+    void exactDoesNotDependOnParallelism() {
+        Dataset data = labelledBlobs(3_000, 2, 5, 32);
+        double sequential = new SilhouetteCalculator(1).calculateOverallSilhouette(data);
+        assertEquals(sequential, new SilhouetteCalculator(4).calculateOverallSilhouette(data), 1e-12);
+    }
+
+    @Test
+    void fullSampleIsExact() {
+        Dataset data = labelledBlobs(1_200, 3, 4, 33);
+        SilhouetteCalculator calculator = new SilhouetteCalculator(2);
+        SilhouetteEstimate estimate = calculator.estimateSilhouette(data, 5_000, 1);
+        assertEquals(1_200, estimate.getSampleSize());
+        assertEquals(0.0, estimate.getMarginOfError());
+        assertEquals(calculator.calculateOverallSilhouette(data), estimate.getMean(), 1e-12);
+    }
+
+    @Test
+    void sampledIntervalCoversExact() {
+        Dataset data = labelledBlobs(4_000, 2, 5, 34);
+        SilhouetteCalculator calculator = new SilhouetteCalculator(2);
+        double exact = calculator.calculateOverallSilhouette(data);
+        // 95% інтервал: з 20 зерен покрити точне значення мають майже всі
+        int covered = 0;
+        for (long seed = 0; seed < 20; seed++) {
+            SilhouetteEstimate estimate = calculator.estimateSilhouette(data, 300, seed);
+            assertEquals(300, estimate.getSampleSize());
+            assertTrue(estimate.getMarginOfError() > 0 && estimate.getMarginOfError() < 0.1, estimate.toString());
+            if (estimate.getLower() <= exact && exact <= estimate.getUpper()) covered++;
+        }
+        assertTrue(covered >= 16, "covered " + covered + " of 20");
+    }
+
+    @Test
+    void simplifiedIsCloseToExactOnSeparatedBlobs() {
+        Dataset data = labelledBlobs(2_000, 2, 4, 35);
+        SilhouetteCalculator calculator = new SilhouetteCalculator(1);
+        double exact = calculator.calculateOverallSilhouette(data);
+        double simplified = calculator.calculateSimplifiedSilhouette(data, means(data, 4), 4);
+        assertTrue(exact > 0.5, "exact " + exact);
+        assertEquals(exact, simplified, 0.1);
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        Dataset data = labelledBlobs(100, 2, 2, 36);
+        assertThrows(IllegalArgumentException.class, () -> new SilhouetteCalculator(0));
+        assertThrows(IllegalArgumentException.class, () -> new SilhouetteCalculator(1).estimateSilhouette(data, 0, 1));
+    }
+
+    @Test
+    void interruptedCallerCancelsCalculation() {
+        Dataset data = labelledBlobs(3_000, 2, 3, 37);
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CancellationException.class, () -> new SilhouetteCalculator(2).calculateOverallSilhouette(data));
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    // s(p) = (b - a) / max(a, b) за визначенням; одноточковий кластер дає 0
+    private static double bruteForce(Dataset data) {
+        int n = data.size(), d = data.dimension();
+        int k = 0;
+        for (int p = 0; p < n; p++) k = Math.max(k, data.getLabel(p) + 1);
+        int[] sizes = new int[k];
+        for (int p = 0; p < n; p++) if (data.getLabel(p) >= 0) sizes[data.getLabel(p)]++;
+        double total = 0;
+        int counted = 0;
+        for (int p = 0; p < n; p++) {
+            int own = data.getLabel(p);
+            if (own < 0) continue;
+            counted++;
+            if (sizes[own] == 1) continue;
+            double[] sums = new double[k];
+            for (int q = 0; q < n; q++) {
+                if (q == p || data.getLabel(q) < 0) continue;
+                double sum = 0;
+                for (int j = 0; j < d; j++) sum += (data.get(p, j) - data.get(q, j)) * (data.get(p, j) - data.get(q, j));
+                sums[data.getLabel(q)] += Math.sqrt(sum);
+            }
+            double a = sums[own] / (sizes[own] - 1), b = Double.MAX_VALUE;
+            for (int c = 0; c < k; c++) if (c != own && sizes[c] > 0) b = Math.min(b, sums[c] / sizes[c]);
+            total += (b - a) / Math.max(a, b);
+        }
+        return total / counted;
+    }
+
+    private static double[] means(Dataset data, int k) {
+        int d = data.dimension();
+        double[] sums = new double[k * d];
+        int[] counts = new int[k];
+        for (int p = 0; p < data.size(); p++) {
+            counts[data.getLabel(p)]++;
+            for (int j = 0; j < d; j++) sums[data.getLabel(p) * d + j] += data.get(p, j);
+        }
+        for (int i = 0; i < sums.length; i++) sums[i] /= counts[i / d];
+        return sums;
+    }
+
+    // Хмари з мітками справжніх центрів; центри рознесені на сітці з кроком 10
+    private static Dataset labelledBlobs(int n, int d, int k, long seed) {
+        Random random = new Random(seed);
+        double[] values = new double[n * d];
+        int[] labels = new int[n];
+        for (int p = 0; p < n; p++) {
+            int c = p % k;
+            labels[p] = c;
+            for (int j = 0; j < d; j++) values[p * d + j] = (j == 0 ? c * 10 : 0) + random.nextGaussian();
+        }
+        return new Dataset(values, n, d).withLabels(labels);
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.algo;
+
+import org.example.model.Dataset;
+import org.junit.jupiter.api.Test;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Перехід між сусідніми k: розщеплені чи злиті центроїди попереднього запуску мають давати
+// правильну форму і сходитися швидше за холодний старт
+class WarmStartTest {
+    private static final int MAX_ITERATIONS = 300;
+
+    @Test
+    void splitFromFiveToSixConvergesFaster() {
+        assertWarmStartConvergesFaster(5, 6);
+    }
+
+    @Test
+    void mergeFromSevenToSixConvergesFaster() {
+        assertWarmStartConvergesFaster(7, 6);
+    }
+
+    @Test
+    void keepsCentroidsForSameK() {
+        Dataset data = blobs(500, 2, 3, 1);
+        double[] centroids = converged(data, 3).getCentroidValues();
+        assertArrayEquals(centroids, WarmStart.adapt(centroids, data, 3));
+    }
+
+    @Test
+    void rejectsNonPositiveK() {
+        Dataset data = blobs(100, 2, 3, 2);
+        double[] centroids = converged(data, 3).getCentroidValues();
+        assertThrows(IllegalArgumentException.class, () -> WarmStart.adapt(centroids, data, 0));
+    }
+
+    @Test
+    void sweepAdaptsNearestAvailableK() {
+        Dataset data = blobs(600, 2, 6, 3);
+        Map<Integer, double[]> warmStarts = new HashMap<>();
+        assertNull(KSweepEngine.warmStart(data, 4, warmStarts));
+        double[] five = converged(data, 5).getCentroidValues();
+        warmStarts.put(5, five);
+        warmStarts.put(2, converged(data, 2).getCentroidValues());
+        assertArrayEquals(five, KSweepEngine.warmStart(data, 5, warmStarts));
+        assertArrayEquals(WarmStart.adapt(five, data, 6), KSweepEngine.warmStart(data, 6, warmStarts));
+        assertEquals(4 * 2, KSweepEngine.warmStart(data, 4, warmStarts).length);
+    }
+
+    private static void assertWarmStartConvergesFaster(int fromK, int toK) {
+        Dataset data = blobs(6_000, 3, 6, 4);
+        double[] previous = converged(data, fromK).getCentroidValues();
+        double[] adapted = WarmStart.adapt(previous, data, toK);
+        assertEquals(toK * data.dimension(), adapted.length);
+
+        KMeansClusterer warm = new KMeansClusterer(data.copy(), toK, MAX_ITERATIONS);
+        warm.setInitialCentroids(adapted);
+        warm.fit();
+        assertTrue(warm.getRunStatistics().isConverged());
+
+        // Холодний старт із випадкових точок — середнє за кількома зернами
+        int coldIterations = 0, runs = 5;
+        for (long seed = 0; seed < runs; seed++) {
+            KMeansClusterer cold = new KMeansClusterer(data.copy(), toK, MAX_ITERATIONS);
+            cold.setSeeding(CentroidSeeding.random());
+            cold.setSeed(seed);
+            cold.fit();
+            coldIterations += cold.getRunStatistics().getIterations();
+        }
+        int warmIterations = warm.getRunStatistics().getIterations();
+        assertTrue(warmIterations * runs < coldIterations,
+                fromK + " -> " + toK + ": warm " + warmIterations + ", cold mean " + (double) coldIterations / runs);
+    }
+
+    private static KMeansClusterer converged(Dataset data, int k) {
+        KMeansClusterer clusterer = new KMeansClusterer(data.copy(), k, MAX_ITERATIONS);
+        clusterer.setSeed(7);
+        clusterer.fit();
+        return clusterer;
+    }
+
+    private static Dataset blobs(int n, int d, int k, long seed) {
+        Random random = new Random(seed);
+        double[] centers = new double[k * d];
+        for (int i = 0; i < centers.length; i++) centers[i] = random.nextDouble() * 20;
+        double[] values = new double[n * d];
+        for (int p = 0; p < n; p++) {
+            int c = random.nextInt(k);
+            for (int j = 0; j < d; j++) values[p * d + j] = centers[c * d + j] + random.nextGaussian();
+        }
+        return new Dataset(values, n, d);
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.index;
+
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Обидва дерева мають повертати те саме, що й повний перебір: найближчий рядок (за рівних — менший
+// індекс) і множину рядків у радіусі
+class SpatialIndexTest {
+
+    @Test
+    void kdTreeMatchesBruteForce() {
+        for (int d : new int[]{1, 2, 5}) {
+            double[] values = rows(3_000, d, 91);
+            assertMatchesBruteForce(new KdTree(values, 3_000, d), values, d);
+        }
+    }
+
+    @Test
+    void ballTreeMatchesBruteForce() {
+        for (int d : new int[]{2, 12, 24}) {
+            double[] values = rows(2_000, d, 92);
+            assertMatchesBruteForce(new BallTree(values, 2_000, d), values, d);
+        }
+    }
+
+    @Test
+    void buildPicksTreeByDimension() {
+        assertTrue(SpatialIndex.build(new double[20], 2, SpatialIndex.KD_TREE_MAX_DIMENSION) instanceof KdTree);
+        assertTrue(SpatialIndex.build(new double[22], 2, SpatialIndex.KD_TREE_MAX_DIMENSION + 1) instanceof BallTree);
+    }
+
+    @Test
+    void nearestPrefersSmallerIndexOnTies() {
+        // Кожен рядок повторено тричі — серед рівних найближчих має бути перший
+        double[] unique = rows(500, 3, 93);
+        double[] values = new double[unique.length * 3];
+        for (int copy = 0; copy < 3; copy++) System.arraycopy(unique, 0, values, copy * unique.length, unique.length);
+        for (SpatialIndex index : new SpatialIndex[]{new KdTree(values, 1_500, 3), new BallTree(values, 1_500, 3)}) {
+            SpatialIndex.Searcher searcher = index.searcher();
+            for (int p = 0; p < 1_500; p++) {
+                assertEquals(p % 500, searcher.nearest(values, p * 3));
+                assertEquals(0.0, searcher.nearestSquaredDistance());
+            }
+        }
+    }
+
+    @Test
+    void emptyIndexAndLimit() {
+        SpatialIndex empty = SpatialIndex.build(new double[0], 0, 2);
+        assertEquals(-1, empty.searcher().nearest(new double[]{1, 2}, 0));
+        assertEquals(0, empty.searcher().withinRadius(new double[]{1, 2}, 0, 10));
+
+        double[] values = rows(1_000, 2, 94);
+        SpatialIndex.Searcher searcher = SpatialIndex.build(values, 1_000, 2).searcher();
+        int all = searcher.withinRadius(values, 0, 100);
+        assertEquals(1_000, all);
+        assertEquals(7, searcher.withinRadius(values, 0, 100, 7));
+    }
+
+    private static void assertMatchesBruteForce(SpatialIndex index, double[] values, int d) {
+        int n = index.size();
+        Random random = new Random(d);
+        SpatialIndex.Searcher searcher = index.searcher();
+        double[] query = new double[d];
+        for (int i = 0; i < 300; i++) {
+            for (int j = 0; j < d; j++) query[j] = random.nextDouble() * 12 - 1;
+            int expected = -1;
+            double best = Double.POSITIVE_INFINITY;
+            for (int p = 0; p < n; p++) {
+                double distance = squaredDistance(values, p * d, query, d);
+                if (distance < best) {
+                    best = distance;
+                    expected = p;
+                }
+            }
+            assertEquals(expected, searcher.nearest(query, 0), "d " + d + ", query " + i);
+            assertEquals(best, searcher.nearestSquaredDistance(), 1e-12 * best);
+
+            double radius = Math.sqrt(best) + random.nextDouble() * 2;
+            int[] within = new int[n];
+            int count = 0;
+            for (int p = 0; p < n; p++) if (squaredDistance(values, p * d, query, d) <= radius * radius) within[count++] = p;
+            int found = searcher.withinRadius(query, 0, radius);
+            int[] actual = Arrays.copyOf(searcher.results(), found);
+            Arrays.sort(actual);
+            assertArrayEquals(Arrays.copyOf(within, count), actual, "d " + d + ", radius query " + i);
+        }
+    }
+
+    private static double squaredDistance(double[] values, int offset, double[] query, int d) {
+        double sum = 0;
+        for (int j = 0; j < d; j++) {
+            double diff = values[offset + j] - query[j];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    // Рівномірні рядки в [0, 10)^d
+    private static double[] rows(int n, int d, long seed) {
+        Random random = new Random(seed);
+        double[] values = new double[n * d];
+        for (int i = 0; i < values.length; i++) values[i] = random.nextDouble() * 10;
+        return values;
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Розбір чисел прямо з байтів має давати той самий double, що й Double.parseDouble для того ж тексту
+class CsvRowSourceTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void fastPathMatchesParseDouble() throws IOException {
+        Random random = new Random(5);
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) texts.add(randomNumber(random));
+        texts.addAll(List.of("0", "-0", "+0.0", "007", ".5", "5.", "-.25", "1e0", "1E+2", "2.5e-3",
+                "123456789012345678", "1234567890123456789012", "0.000000000000000000000001",
+                "9007199254740993", "4.9e-324", "1.7976931348623157e308", "1e400", "-1e-400",
+                "NaN", "-Infinity", "+Infinity"));
+        assertParsedLikeParseDouble(texts, false);
+    }
+
+    @Test
+    void quotedFieldsMatchParseDouble() throws IOException {
+        Random random = new Random(6);
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) texts.add(randomNumber(random));
+        assertParsedLikeParseDouble(texts, true);
+    }
+
+    @Test
+    void selectsColumnsByNameAcrossSmallChunks() throws IOException {
+        Path file = write("data.tsv", "\uFEFF\"id\"\tName\t\"x, y\"\tz\r\n1\talpha\t\"2.5\"\t-3\r\n\r\n2\tbeta\t 4 \t\"1e3\"\n");
+        try (CsvRowSource source = new CsvRowSource(file, '\t', List.of("z", "X, Y"), 64)) {
+            assertEquals(List.of("id", "Name", "x, y", "z"), source.getHeader());
+            double[] buffer = new double[6];
+            assertEquals(2, source.read(buffer, 3));
+            assertEquals(-3.0, buffer[0]);
+            assertEquals(2.5, buffer[1]);
+            assertEquals(1000.0, buffer[2]);
+            assertEquals(4.0, buffer[3]);
+        }
+    }
+
+    @Test
+    void rejectsJavaLiterals() throws IOException {
+        for (String text : List.of("1.5f", "2d", "3D", "0x1p3", "0x10", "1e", "--1", "1,5", "")) {
+            Path file = write("literal.csv", "a,b\n" + (text.isEmpty() ? "" : '"' + text + '"') + ",1\n");
+            try (CsvRowSource source = new CsvRowSource(file, ',', List.of("a"))) {
+                IOException error = assertThrows(IOException.class, () -> source.read(new double[1], 1), text);
+                assertEquals("Line 2, column 'a': not a number: '" + text + "'", error.getMessage());
+            }
+        }
+    }
+
+    @Test
+    void rejectsDuplicateColumns() throws IOException {
+        Path file = write("duplicate.csv", "a,b\n1,2\n");
+        assertThrows(IllegalArgumentException.class, () -> new CsvRowSource(file, ',', List.of("a", "b", "A")));
+    }
+
+    @Test
+    void reportsMissingFields() throws IOException {
+        Path file = write("short.csv", "a,b,c\n1,2,3\n4,5\n");
+        try (CsvRowSource source = new CsvRowSource(file, ',', List.of("c"))) {
+            IOException error = assertThrows(IOException.class, () -> source.read(new double[2], 2));
+            assertEquals("Line 3: expected at least 3 fields, got 2", error.getMessage());
+        }
+    }
+
+    private void assertParsedLikeParseDouble(List<String> texts, boolean quoted) throws IOException {
+        StringBuilder csv = new StringBuilder("label,value\n");
+        for (String text : texts) csv.append("row,").append(quoted ? '"' + text + '"' : text).append('\n');
+        Path file = write(quoted ? "quoted.csv" : "plain.csv", csv.toString());
+        try (CsvRowSource source = new CsvRowSource(file, ',', List.of("value"), 256)) {
+            double[] buffer = new double[texts.size()];
+            assertEquals(texts.size(), source.read(buffer, texts.size()));
+            for (int i = 0; i < texts.size(); i++) {
+                assertEquals(Double.parseDouble(texts.get(i)), buffer[i], "'" + texts.get(i) + "'");
+            }
+        }
+    }
+
+    // Десяткові записи різної форми: toString (з порядком E), фіксована точність, цілі, довгі мантиси
+    private static String randomNumber(Random random) {
+        double magnitude = Math.pow(10, random.nextInt(40) - 20);
+        double value = (random.nextDouble() - 0.5) * magnitude;
+        switch (random.nextInt(5)) {
+            case 0: return Double.toString(value);
+            case 1: return String.format(Locale.ROOT, "%." + random.nextInt(12) + "f", value);
+            case 2: return Long.toString(random.nextLong() >> random.nextInt(63));
+            case 3: return String.format(Locale.ROOT, "%.20e", value);
+            default: return (random.nextBoolean() ? "+" : "") + random.nextInt(1000) + "." + random.nextInt(1_000_000);
+        }
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content, StandardCharsets.UTF_8);
+    }
+}
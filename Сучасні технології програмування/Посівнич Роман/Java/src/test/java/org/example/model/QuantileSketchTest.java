@@ -0,0 +1,109 @@
+package org.example.model;
+
+import org.example.algo.ClusterProfiler;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Похибка рангу ескізу (|rank(quantile(q)) / n - q|) має лишатися порядку 1/k і після злиття частин
+class QuantileSketchTest {
+    // Для k = 200 на практиці ~0.006; межа з запасом
+    private static final double RANK_ERROR = 0.02;
+
+    @Test
+    void singleStreamStaysWithinRankError() {
+        double[] values = gaussian(200_000, 51);
+        QuantileSketch sketch = new QuantileSketch();
+        for (double value : values) sketch.add(value);
+        assertEquals(values.length, sketch.getCount());
+        assertRankError(values, sketch);
+    }
+
+    @Test
+    void mergedPartsStayWithinRankError() {
+        double[] values = gaussian(200_000, 52);
+        QuantileSketch[] parts = new QuantileSketch[16];
+        for (int i = 0; i < parts.length; i++) parts[i] = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) parts[i % parts.length].add(values[i]);
+        QuantileSketch merged = new QuantileSketch();
+        for (QuantileSketch part : parts) merged.merge(part);
+        assertEquals(values.length, merged.getCount());
+        assertRankError(values, merged);
+    }
+
+    @Test
+    void sortedInputKeepsExtremesExact() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < 100_000; i++) sketch.add(i);
+        sketch.add(Double.NaN);
+        assertEquals(100_000, sketch.getCount());
+        assertEquals(0.0, sketch.quantile(0));
+        assertEquals(99_999.0, sketch.quantile(1));
+        assertEquals(50_000, sketch.quantile(0.5), RANK_ERROR * 100_000);
+    }
+
+    @Test
+    void smallInputIsExact() {
+        QuantileSketch sketch = new QuantileSketch();
+        assertTrue(Double.isNaN(sketch.quantile(0.5)));
+        for (int i = 1; i <= 99; i++) sketch.add(100 - i);
+        assertEquals(50.0, sketch.quantile(0.5));
+        assertEquals(25.0, sketch.quantile(0.25));
+    }
+
+    @Test
+    void clusterProfileQuantilesStayWithinRankError() {
+        int n = 60_000, clusters = 3;
+        double[] values = gaussian(n, 53);
+        int[] labels = new int[n];
+        for (int p = 0; p < n; p++) {
+            labels[p] = p % (clusters + 1) - 1;
+            values[p] += 10 * labels[p];
+        }
+        ClusterProfile profile = ClusterProfiler.profile(new Dataset(values, n, 1), labels, clusters, true);
+        for (int c = 0; c < clusters; c++) {
+            double[] members = new double[n];
+            int count = 0;
+            for (int p = 0; p < n; p++) if (labels[p] == c) members[count++] = values[p];
+            members = Arrays.copyOf(members, count);
+            FeatureSummary summary = profile.getSummary(c);
+            // Шум (мітка -1) не потрапляє до жодного кластера
+            assertEquals(count, summary.getCount());
+            assertEquals(Arrays.stream(members).average().getAsDouble(), summary.getMean(0), 1e-9);
+            double[] sorted = members.clone();
+            Arrays.sort(sorted);
+            for (double q = 0.05; q < 1; q += 0.05) {
+                double error = Math.abs((double) rank(sorted, summary.getQuantile(0, q)) / count - q);
+                assertTrue(error <= RANK_ERROR, "cluster " + c + ", q " + q + ": " + error);
+            }
+        }
+    }
+
+    private static void assertRankError(double[] values, QuantileSketch sketch) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        assertEquals(sorted[0], sketch.getMin());
+        assertEquals(sorted[sorted.length - 1], sketch.getMax());
+        for (int i = 1; i < 100; i++) {
+            double q = i / 100.0;
+            double error = Math.abs((double) rank(sorted, sketch.quantile(q)) / sorted.length - q);
+            assertTrue(error <= RANK_ERROR, "q " + q + ": " + error);
+        }
+    }
+
+    // Кількість значень, менших за x
+    private static int rank(double[] sorted, double x) {
+        int index = Arrays.binarySearch(sorted, x);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    private static double[] gaussian(int n, long seed) {
+        Random random = new Random(seed);
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) values[i] = random.nextGaussian();
+        return values;
+    }
+}